@@ -0,0 +1,142 @@
+// Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+
+// Buffered messages are written to the channel once the buffer holds this many bytes
+const int WRITE_BUFFER_SIZE = 65536;
+// Maximum number of bytes read from the channel at a time
+const int READ_CHUNK_SIZE = 65536;
+
+const string CHANNEL_WRITE_FAILURE = "Failed to write delimited messages: ";
+const string CHANNEL_READ_FAILURE = "Failed to read delimited messages: ";
+const string STREAM_READ_FAILURE = "Failed to read the values of the stream: ";
+const string TRUNCATED_MESSAGE = "input ended in the middle of a message";
+
+# Buffer of length delimited messages, which holds the buffered bytes in its native data.
+isolated class DelimitedMessageBuffer {
+
+    isolated function init(int initialCapacity) {
+        initBuffer(self, initialCapacity);
+    }
+
+    # Serializes a value and appends it to the buffer as a length delimited message.
+    #
+    # + schema - The schema of the value
+    # + data - The value that is being serialized
+    # + return - The number of buffered bytes or else a `serdes:Error` if the value can not be serialized
+    isolated function addMessage(Proto3Schema schema, anydata data) returns int|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.DelimitedMessages"
+    } external;
+
+    # Removes the buffered bytes from the buffer.
+    #
+    # + return - The buffered bytes
+    isolated function takeBytes() returns byte[] =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.DelimitedMessages"
+    } external;
+
+    # Appends the bytes read from a channel to the buffer.
+    #
+    # + input - The bytes read from the channel
+    isolated function addInput(byte[] input) =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.DelimitedMessages"
+    } external;
+
+    # Checks whether all the bytes of the next message are buffered.
+    #
+    # + return - `true` if the next message can be read or else a `serdes:Error` if the length of the message is
+    # not valid
+    isolated function hasMessage() returns boolean|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.DelimitedMessages"
+    } external;
+
+    # Checks whether the buffer holds any bytes.
+    #
+    # + return - `true` if there are no buffered bytes
+    isolated function isEmpty() returns boolean =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.DelimitedMessages"
+    } external;
+
+    # Deserializes the next message of the buffer.
+    #
+    # + schema - The schema of the value
+    # + T - The expected type of the value
+    # + return - The deserialized value or else a `serdes:Error` if the message can not be deserialized or the
+    # value is not of the expected type
+    isolated function readMessage(Proto3Schema schema, typedesc<anydata> T) returns anydata|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.DelimitedMessages"
+    } external;
+}
+
+# Iterator of the streams returned by `readDelimited`, the messages are read from the channel as the stream is
+# iterated.
+class DelimitedMessageIterator {
+    private final Proto3Schema schema;
+    private final io:ReadableByteChannel channel;
+    private final typedesc<anydata> valueType;
+    private final DelimitedMessageBuffer buffer = new (READ_CHUNK_SIZE);
+
+    isolated function init(Proto3Schema schema, io:ReadableByteChannel channel, typedesc<anydata> valueType) {
+        self.schema = schema;
+        self.channel = channel;
+        self.valueType = valueType;
+    }
+
+    public isolated function next() returns record {|anydata value;|}|Error? {
+        boolean hasMessage = check self.buffer.hasMessage();
+        while !hasMessage {
+            byte[]|io:Error input = self.channel.read(READ_CHUNK_SIZE);
+            if input is io:EofError {
+                if self.buffer.isEmpty() {
+                    return;
+                }
+                return error Error(CHANNEL_READ_FAILURE + TRUNCATED_MESSAGE);
+            }
+            if input is io:Error {
+                return error Error(CHANNEL_READ_FAILURE + input.message(), input);
+            }
+            self.buffer.addInput(input);
+            hasMessage = check self.buffer.hasMessage();
+        }
+        anydata value = check self.buffer.readMessage(self.schema, self.valueType);
+        return {value};
+    }
+}
+
+isolated function initBuffer(DelimitedMessageBuffer buffer, int initialCapacity) =
+@java:Method {
+    'class: "io.ballerina.stdlib.serdes.DelimitedMessages"
+} external;
+
+// Channels may write only a part of the content at a time
+isolated function writeFully(io:WritableByteChannel channel, byte[] content) returns Error? {
+    int offset = 0;
+    while offset < content.length() {
+        int|io:Error written = channel.write(content, offset);
+        if written is io:Error {
+            return error Error(CHANNEL_WRITE_FAILURE + written.message(), written);
+        }
+        offset += written;
+    }
+}
@@ -0,0 +1,77 @@
+// Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+
+const string CHUNK_READ_FAILURE = "Failed to read the chunks of the encoded value: ";
+
+# Iterator of the streams returned by `deserializeElements`, the chunks are read as the stream is iterated. The
+# reader of the encoded elements is held in the native data.
+class ElementIterator {
+    private final stream<byte[], io:Error?> chunks;
+
+    isolated function init(stream<byte[], io:Error?> chunks) {
+        self.chunks = chunks;
+    }
+
+    public isolated function next() returns record {|anydata value;|}|Error? {
+        boolean hasElement = check hasElement(self);
+        while !hasElement {
+            record {|byte[] value;|}|io:Error? chunk = self.chunks.next();
+            if chunk is io:Error {
+                return error Error(CHUNK_READ_FAILURE + chunk.message(), chunk);
+            }
+            if chunk is () {
+                if hasPartialInput(self) {
+                    return error Error(CHUNK_READ_FAILURE + TRUNCATED_MESSAGE);
+                }
+                return;
+            }
+            addChunk(self, chunk.value);
+            hasElement = check hasElement(self);
+        }
+        anydata value = check readElement(self);
+        return {value};
+    }
+
+    public isolated function close() returns Error? {
+        io:Error? result = self.chunks.close();
+        if result is io:Error {
+            return error Error(CHUNK_READ_FAILURE + result.message(), result);
+        }
+    }
+}
+
+isolated function addChunk(ElementIterator iterator, byte[] chunk) =
+@java:Method {
+    'class: "io.ballerina.stdlib.serdes.ElementStreams"
+} external;
+
+isolated function hasElement(ElementIterator iterator) returns boolean|Error =
+@java:Method {
+    'class: "io.ballerina.stdlib.serdes.ElementStreams"
+} external;
+
+isolated function hasPartialInput(ElementIterator iterator) returns boolean =
+@java:Method {
+    'class: "io.ballerina.stdlib.serdes.ElementStreams"
+} external;
+
+isolated function readElement(ElementIterator iterator) returns anydata|Error =
+@java:Method {
+    'class: "io.ballerina.stdlib.serdes.ElementStreams"
+} external;
@@ -16,10 +16,21 @@
 
 import ballerina/jballerina.java;
 
+# The number of threads which serialize and deserialize large arrays and tables in parallel. Values are serialized
+# and deserialized by the calling strand when the parallelism is less than two.
+configurable int parallelism = 0;
+# The minimum number of elements of the arrays and tables which are serialized and deserialized in parallel.
+configurable int parallelThreshold = 10000;
+
 function init() {
     setModule();
+    setParallelism(parallelism, parallelThreshold);
 }
 
 function setModule() = @java:Method {
     'class: "io.ballerina.stdlib.serdes.Utils"
 } external;
+
+function setParallelism(int threadCount, int threshold) = @java:Method {
+    'class: "io.ballerina.stdlib.serdes.Parallelism"
+} external;
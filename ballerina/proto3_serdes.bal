@@ -14,19 +14,44 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/io;
 import ballerina/jballerina.java;
 
+# Options of the schema generated for a data type.
+#
+# + compactDecimals - Encodes `decimal` values which fit in 64 bits as a `sint64` unscaled value and a `sint32` scale,
+# instead of the bytes of the unscaled value and the precision
+# + columnarTables - Encodes tables of records column by column, with a repeated field for each record field, instead of
+# a repeated message for the rows. Tables with optional record fields are still encoded row by row
+# + stringDictionary - Encodes each distinct `string` value once in a dictionary of the top level message and the
+# `string` values as `uint32` references to the dictionary. Schemas of `string` types are not changed
+public type SchemaOptions record {|
+    boolean compactDecimals = false;
+    boolean columnarTables = false;
+    boolean stringDictionary = false;
+|};
+
 public class Proto3Schema {
     *Schema;
     private typedesc<anydata> dataType;
 
-    # Generates a schema for a given data type.
+    # Generates a schema for a given data type, or loads the schema from a descriptor set exported by
+    # `exportDescriptorSet`.
     #
     # + ballerinaDataType - The data type of the value that needs to be serialized
-    # + return - A `serdes:Error` if the data type is not supported or else `()`
-    public isolated function init(typedesc<anydata> ballerinaDataType) returns Error? {
+    # + descriptorSet - The serialized protobuf `FileDescriptorSet` containing the schema of the data type
+    # + options - The options of the generated schema. The options are not used when the schema is loaded from a
+    # descriptor set, since the descriptor set already defines the encoding
+    # + return - A `serdes:Error` if the data type is not supported, or the descriptor set does not match the data
+    # type or else `()`
+    public isolated function init(typedesc<anydata> ballerinaDataType, byte[]? descriptorSet = (),
+            *SchemaOptions options) returns Error? {
         self.dataType = ballerinaDataType;
-        check generateSchema(self, ballerinaDataType);
+        if descriptorSet is byte[] {
+            check loadSchema(self, ballerinaDataType, descriptorSet);
+        } else {
+            check generateSchema(self, ballerinaDataType, options);
+        }
     }
 
     # Serializes a given value.
@@ -38,8 +63,21 @@ public class Proto3Schema {
         'class: "io.ballerina.stdlib.serdes.Serializer"
     }  external;
 
+    # Serializes a given value into an existing byte array.
+    #
+    # + data - The value that is being serialized
+    # + target - The byte array to which the encoded value is written
+    # + offset - The index of the target array from which the encoded value is written
+    # + return - The number of bytes written to the target array or else a `serdes:Error` if the value
+    # does not fit in the target array
+    public isolated function serializeInto(anydata data, byte[] target, int offset = 0) returns int|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.Serializer"
+    }  external;
+
 
-    # Deserializes a given array of bytes.
+    # Deserializes a given array of bytes. Records can be deserialized into a record type with a subset of their
+    # fields, the fields which are not in that type are skipped.
     #
     # + encodedMessage - The encoded byte array of the value that is serialized
     # + T - The type of the deserialized data. This will be inferred from the expected type
@@ -49,6 +87,109 @@ public class Proto3Schema {
     'class: "io.ballerina.stdlib.serdes.Deserializer"
     }  external;
 
+    # Serializes a given value and writes it to a byte channel as a length delimited message. The encoded value is
+    # prefixed with its length as a varint, so a channel can hold any number of values, which are read back by
+    # `readDelimited`.
+    #
+    # + channel - The byte channel to which the message is written
+    # + data - The value that is being serialized
+    # + return - A `serdes:Error` if the value can not be serialized or written to the channel or else `()`
+    public isolated function writeDelimited(io:WritableByteChannel channel, anydata data) returns Error? {
+        // The buffer grows to the exact size of the message, so its bytes are written to the channel without copying
+        DelimitedMessageBuffer buffer = new (0);
+        _ = check buffer.addMessage(self, data);
+        return writeFully(channel, buffer.takeBytes());
+    }
+
+    # Serializes the values of a stream and writes them to a byte channel as length delimited messages. The messages
+    # are buffered and written to the channel in chunks, so the stream is written without holding all of its values.
+    #
+    # + channel - The byte channel to which the messages are written
+    # + values - The stream of the values that are being serialized
+    # + return - A `serdes:Error` if a value can not be serialized, the stream returns an error, or a message can not
+    # be written to the channel or else `()`
+    public isolated function writeAllDelimited(io:WritableByteChannel channel, stream<anydata, error?> values)
+            returns Error? {
+        DelimitedMessageBuffer buffer = new (WRITE_BUFFER_SIZE);
+        record {|anydata value;|}|error? next = values.next();
+        while next is record {|anydata value;|} {
+            int bufferedSize = check buffer.addMessage(self, next.value);
+            if bufferedSize >= WRITE_BUFFER_SIZE {
+                check writeFully(channel, buffer.takeBytes());
+            }
+            next = values.next();
+        }
+        if next is error {
+            return error Error(STREAM_READ_FAILURE + next.message(), next);
+        }
+        return writeFully(channel, buffer.takeBytes());
+    }
+
+    # Reads the length delimited messages written by `writeDelimited` and `writeAllDelimited` from a byte channel.
+    # The messages are read from the channel as the stream is iterated, so the channel is read without holding all
+    # of its messages.
+    #
+    # + channel - The byte channel from which the messages are read
+    # + T - The type of the values of the stream. This will be inferred from the expected type
+    # + return - A stream of the deserialized values, which returns a `serdes:Error` if a message can not be read
+    # from the channel or deserialized, or if a value is not of the type of the stream
+    public isolated function readDelimited(io:ReadableByteChannel channel, typedesc<anydata> T = <>)
+            returns stream<T, Error?> =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.DelimitedMessages"
+    }  external;
+
+    # Deserializes the elements of an array or the rows of a table from the chunks of its encoded bytes. The
+    # elements are decoded as the chunks are read, so the encoded value is not held in memory as a whole. Tables
+    # serialized with `columnarTables` and values serialized with `stringDictionary` can not be read one element at
+    # a time.
+    #
+    # + chunks - The chunks of the encoded array or table, such as the blocks of a file
+    # + T - The type of the elements of the stream. This will be inferred from the expected type
+    # + return - A stream of the deserialized elements, which returns a `serdes:Error` if a chunk can not be read or
+    # an element can not be deserialized, or else a `serdes:Error` if the schema is not an array or a table schema
+    public isolated function deserializeElements(stream<byte[], io:Error?> chunks, typedesc<anydata> T = <>)
+            returns stream<T, Error?>|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.ElementStreams"
+    }  external;
+
+    # Creates a view of an encoded record, which deserializes the fields of the record on their first access. The
+    # fields are found without deserializing them, so reading a few fields of a large record does not deserialize
+    # the rest of the record.
+    #
+    # + encodedMessage - The encoded byte array of the record that is serialized
+    # + return - A view of the record or else a `serdes:Error` if the schema is not a record schema
+    public isolated function deserializeView(byte[] encodedMessage) returns RecordView|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.RecordViews"
+    }  external;
+
+    # Deserializes a single field of an encoded record without deserializing the other fields. The other fields are
+    # skipped while the encoded bytes are scanned for the field.
+    #
+    # + encodedMessage - The encoded byte array of the record that is serialized
+    # + fieldPath - The name of the field, names of the fields of nested records are separated by dots such as
+    # `address.city`
+    # + T - The type of the value of the field. This will be inferred from the expected type
+    # + return - The value of the field, `()` if an optional field or an optional nested record is not present, or
+    # else a `serdes:Error` if the path is not a field of the record type, the field can not be deserialized or the
+    # value of the field is not of type `T`
+    public isolated function extractField(byte[] encodedMessage, string fieldPath, typedesc<anydata> T = <>)
+            returns T|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.Deserializer"
+    }  external;
+
+    # Exports the schema as a serialized protobuf `FileDescriptorSet`, which can be used to create a
+    # `serdes:Proto3Schema` for the same data type without generating the schema.
+    #
+    # + return - The serialized descriptor set of the schema
+    public isolated function exportDescriptorSet() returns byte[] =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.SchemaGenerator"
+    }  external;
+
     # Writes dynamically generated proto message defintion to a file.
     #
     # + filePath - File path along with file name
@@ -60,7 +201,13 @@ public class Proto3Schema {
 
 }
 
-public isolated function generateSchema(Schema serdes, typedesc<anydata> T) returns Error? =
+public isolated function generateSchema(Schema serdes, typedesc<anydata> T, SchemaOptions options = {})
+        returns Error? =
+@java:Method {
+    'class: "io.ballerina.stdlib.serdes.SchemaGenerator"
+}  external;
+
+isolated function loadSchema(Schema serdes, typedesc<anydata> T, byte[] descriptorSet) returns Error? =
 @java:Method {
     'class: "io.ballerina.stdlib.serdes.SchemaGenerator"
 }  external;
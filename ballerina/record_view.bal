@@ -0,0 +1,58 @@
+// Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# A view of an encoded record, which deserializes the fields of the record on their first access. Views are created
+# by `Proto3Schema.deserializeView`.
+public isolated class RecordView {
+
+    // Views are created only by the schemas, which set the encoded record in the native data
+    isolated function init() {
+    }
+
+    # Returns the value of a field of the record, the field is deserialized on its first access. Each access returns
+    # a copy of a structured field value, so changing the returned value does not change the view.
+    #
+    # + fieldName - The name of the field
+    # + return - The value of the field, `()` if an optional field is not present, or else a `serdes:Error` if the
+    # field is not defined in the record type or can not be deserialized
+    public isolated function get(string fieldName) returns anydata|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.RecordViews"
+    } external;
+
+    # Checks whether the record has a field.
+    #
+    # + fieldName - The name of the field
+    # + return - `true` if the record has the field or else a `serdes:Error` if the field is not defined in the
+    # record type
+    public isolated function hasField(string fieldName) returns boolean|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.RecordViews"
+    } external;
+
+    # Deserializes all the fields of the record, fields which are already deserialized are not deserialized again.
+    # The returned record does not share its field values with the view.
+    #
+    # + T - The type of the record. This will be inferred from the expected type
+    # + return - The deserialized record or else a `serdes:Error` if a field can not be deserialized or the record is
+    # not of type `T`
+    public isolated function toRecord(typedesc<record {}> T = <>) returns T|Error =
+    @java:Method {
+        'class: "io.ballerina.stdlib.serdes.RecordViews"
+    } external;
+}
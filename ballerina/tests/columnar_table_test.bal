@@ -0,0 +1,128 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type Reading record {|
+    readonly int id;
+    float value;
+    boolean valid;
+    string sensor;
+    byte status;
+    decimal calibration;
+    int[] samples;
+    Row source;
+|};
+
+type ReadingTable table<Reading> key(id);
+
+type OptionalFieldRow record {
+    int id;
+    string note?;
+};
+
+type OptionalFieldTable table<OptionalFieldRow>;
+
+type RecordWithColumnarTable record {
+    ReadingTable readings;
+    ScoreTable scores;
+};
+
+isolated function createReadings(int count) returns ReadingTable {
+    ReadingTable readings = table [];
+    foreach int i in 0 ..< count {
+        readings.add({
+            id: i,
+            value: <float>i * 0.5,
+            valid: i % 2 == 0,
+            sensor: "sensor-" + (i % 3).toString(),
+            status: <byte>(i % 256),
+            calibration: 1.25,
+            samples: [i, i + 1],
+            source: {id: i, name: "source"}
+        });
+    }
+    return readings;
+}
+
+@test:Config {}
+public isolated function testColumnarTable() returns error? {
+    ReadingTable readings = createReadings(10);
+
+    Proto3Schema ser = check new (ReadingTable, columnarTables = true);
+    byte[] encoded = check ser.serialize(readings);
+    ReadingTable decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, readings);
+}
+
+@test:Config {}
+public isolated function testEmptyColumnarTable() returns error? {
+    ReadingTable readings = table [];
+
+    Proto3Schema ser = check new (ReadingTable, columnarTables = true);
+    byte[] encoded = check ser.serialize(readings);
+    ReadingTable decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, readings);
+}
+
+@test:Config {}
+public isolated function testColumnarTablesAreSmaller() returns error? {
+    ReadingTable readings = createReadings(100);
+
+    Proto3Schema rowSchema = check new (ReadingTable);
+    Proto3Schema columnarSchema = check new (ReadingTable, columnarTables = true);
+    byte[] rowEncoded = check rowSchema.serialize(readings);
+    byte[] columnarEncoded = check columnarSchema.serialize(readings);
+    test:assertTrue(columnarEncoded.length() < rowEncoded.length());
+}
+
+@test:Config {}
+public isolated function testColumnarTableField() returns error? {
+    RecordWithColumnarTable data = {
+        readings: createReadings(3),
+        scores: table [{"math": 90, "art": 75}]
+    };
+
+    Proto3Schema ser = check new (RecordWithColumnarTable, columnarTables = true);
+    byte[] encoded = check ser.serialize(data);
+    RecordWithColumnarTable decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, data);
+}
+
+@test:Config {}
+public isolated function testTableWithOptionalFieldsKeepsRowLayout() returns error? {
+    OptionalFieldTable data = table [{id: 1, note: "first"}, {id: 2}];
+
+    Proto3Schema rowSchema = check new (OptionalFieldTable);
+    Proto3Schema columnarSchema = check new (OptionalFieldTable, columnarTables = true);
+    byte[] encoded = check columnarSchema.serialize(data);
+    test:assertEquals(encoded, check rowSchema.serialize(data));
+    OptionalFieldTable decoded = check columnarSchema.deserialize(encoded);
+    test:assertEquals(decoded, data);
+}
+
+@test:Config {}
+public isolated function testLoadColumnarTableFromDescriptorSet() returns error? {
+    ReadingTable readings = createReadings(5);
+
+    Proto3Schema generated = check new (ReadingTable, columnarTables = true);
+    Proto3Schema loaded = check new (ReadingTable, generated.exportDescriptorSet());
+
+    byte[] encoded = check generated.serialize(readings);
+    test:assertEquals(check loaded.serialize(readings), encoded);
+    ReadingTable decoded = check loaded.deserialize(encoded);
+    test:assertEquals(decoded, readings);
+}
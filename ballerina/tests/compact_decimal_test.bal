@@ -0,0 +1,81 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type Invoice record {
+    string id;
+    decimal total;
+    decimal[] lineAmounts;
+    map<decimal> taxes;
+    decimal|string discount;
+};
+
+@test:Config {}
+public isolated function testCompactDecimals() returns error? {
+    decimal[] values = [0, 1e-10, 1250.75, -3, -1E+5, 9223372036854775807, -9223372036854775808,
+        12345678901234567890, 123456789012345678901234567890.12];
+
+    Proto3Schema ser = check new (decimal, compactDecimals = true);
+    foreach decimal value in values {
+        byte[] encoded = check ser.serialize(value);
+        decimal decoded = check ser.deserialize(encoded);
+        test:assertEquals(decoded, value);
+    }
+}
+
+@test:Config {}
+public isolated function testCompactDecimalsInRecord() returns error? {
+    Invoice invoice = {
+        id: "INV-7",
+        total: 1099.99,
+        lineAmounts: [999.99, 100.00, 0],
+        taxes: {vat: 54.99, levy: 0.005},
+        discount: 12345678901234567890.5
+    };
+
+    Proto3Schema ser = check new (Invoice, compactDecimals = true);
+    byte[] encoded = check ser.serialize(invoice);
+    Invoice decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, invoice);
+}
+
+@test:Config {}
+public isolated function testCompactDecimalsAreSmaller() returns error? {
+    decimal[] amounts = [1250.75, 19.99, 0.05, 1000];
+
+    Proto3Schema defaultSchema = check new (DecimalArray);
+    Proto3Schema compactSchema = check new (DecimalArray, compactDecimals = true);
+    byte[] defaultEncoded = check defaultSchema.serialize(amounts);
+    byte[] compactEncoded = check compactSchema.serialize(amounts);
+    test:assertTrue(compactEncoded.length() < defaultEncoded.length());
+
+    decimal[] decoded = check compactSchema.deserialize(compactEncoded);
+    test:assertEquals(decoded, amounts);
+}
+
+@test:Config {}
+public isolated function testLoadCompactDecimalsFromDescriptorSet() returns error? {
+    Invoice invoice = {id: "INV-8", total: 5.5, lineAmounts: [5.5], taxes: {}, discount: "none"};
+
+    Proto3Schema generated = check new (Invoice, compactDecimals = true);
+    Proto3Schema loaded = check new (Invoice, generated.exportDescriptorSet());
+
+    byte[] encoded = check generated.serialize(invoice);
+    test:assertEquals(check loaded.serialize(invoice), encoded);
+    Invoice decoded = check loaded.deserialize(encoded);
+    test:assertEquals(decoded, invoice);
+}
@@ -0,0 +1,133 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+type StudentWithCourseName record {
+    string name;
+    string courseId;
+    decimal fees;
+};
+
+isolated function createStudents(int count) returns Student[] {
+    Student[] students = [];
+    foreach int i in 0 ..< count {
+        students.push({name: "student-" + i.toString(), courseId: i % 7, fees: 1250.5});
+    }
+    return students;
+}
+
+isolated function readDelimitedStudents(Proto3Schema ser, string filePath) returns Student[]|error {
+    io:ReadableByteChannel channel = check io:openReadableFile(filePath);
+    stream<Student, Error?> values = ser.readDelimited(channel);
+    Student[]|Error students = from Student student in values select student;
+    check channel.close();
+    return students;
+}
+
+@test:Config {}
+public isolated function testWriteDelimited() returns error? {
+    string filePath = "delimited_students.bin";
+    Student[] students = createStudents(3);
+    Proto3Schema ser = check new (Student);
+
+    io:WritableByteChannel channel = check io:openWritableFile(filePath);
+    foreach Student student in students {
+        check ser.writeDelimited(channel, student);
+    }
+    check channel.close();
+
+    test:assertEquals(check readDelimitedStudents(ser, filePath), students);
+}
+
+@test:Config {}
+public isolated function testWriteAllDelimited() returns error? {
+    string filePath = "delimited_stream.bin";
+    // Messages span more than one write buffer and read chunk
+    Student[] students = createStudents(5000);
+    Proto3Schema ser = check new (Student);
+
+    io:WritableByteChannel channel = check io:openWritableFile(filePath);
+    check ser.writeAllDelimited(channel, students.toStream());
+    check channel.close();
+
+    test:assertEquals(check readDelimitedStudents(ser, filePath), students);
+}
+
+@test:Config {}
+public isolated function testDelimitedMessageFraming() returns error? {
+    string filePath = "delimited_framing.bin";
+    Student student = {name: "Jane", courseId: 3, fees: 99.95};
+    Proto3Schema ser = check new (Student);
+
+    io:WritableByteChannel channel = check io:openWritableFile(filePath);
+    check ser.writeDelimited(channel, student);
+    check channel.close();
+
+    // Encoded value is prefixed with its length as a varint
+    byte[] encoded = check ser.serialize(student);
+    byte[] expected = [<byte>encoded.length()];
+    expected.push(...encoded);
+    test:assertEquals(check io:fileReadBytes(filePath), expected);
+}
+
+@test:Config {}
+public isolated function testReadDelimitedFromEmptyChannel() returns error? {
+    string filePath = "delimited_empty.bin";
+    check io:fileWriteBytes(filePath, []);
+    Proto3Schema ser = check new (Student);
+
+    test:assertEquals(check readDelimitedStudents(ser, filePath), []);
+}
+
+@test:Config {}
+public isolated function testReadTruncatedDelimitedMessage() returns error? {
+    string filePath = "delimited_truncated.bin";
+    string expected = "Failed to read delimited messages: input ended in the middle of a message";
+    Proto3Schema ser = check new (Student);
+
+    Student student = {name: "Jane", courseId: 3, fees: 99.95};
+    byte[] encoded = check ser.serialize(student);
+    byte[] truncated = [<byte>encoded.length()];
+    truncated.push(...encoded.slice(0, encoded.length() - 1));
+    check io:fileWriteBytes(filePath, truncated);
+
+    Student[]|error students = readDelimitedStudents(ser, filePath);
+    test:assertTrue(students is Error);
+    Error err = <Error>students;
+    test:assertEquals(err.message(), expected);
+}
+
+@test:Config {}
+public isolated function testReadDelimitedWithMismatchedType() returns error? {
+    string filePath = "delimited_mismatched.bin";
+    string expectedPrefix = "Failed to Deserialize data: Type mismatch";
+    Proto3Schema ser = check new (Student);
+
+    io:WritableByteChannel writableChannel = check io:openWritableFile(filePath);
+    check ser.writeDelimited(writableChannel, {name: "Jane", courseId: 3, fees: 99.95});
+    check writableChannel.close();
+
+    io:ReadableByteChannel channel = check io:openReadableFile(filePath);
+    stream<StudentWithCourseName, Error?> values = ser.readDelimited(channel);
+    StudentWithCourseName[]|Error students = from StudentWithCourseName student in values select student;
+    check channel.close();
+
+    test:assertTrue(students is Error);
+    Error err = <Error>students;
+    test:assertTrue(err.message().startsWith(expectedPrefix));
+}
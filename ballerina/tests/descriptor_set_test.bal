@@ -0,0 +1,104 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type Lecturer record {
+    string name;
+    int|string id;
+    decimal salary;
+    string[] courses;
+};
+
+type LecturerCode [string, int, boolean];
+
+type ShortLecturerCode [string, int];
+
+type LecturerCodeOfRecord [Lecturer, int, boolean];
+
+@test:Config {}
+public isolated function testLoadSchemaFromDescriptorSet() returns error? {
+    Lecturer lecturer = {name: "Ann", id: "L-042", salary: 1250.75, courses: ["Algebra", "Calculus"]};
+
+    Proto3Schema generated = check new (Lecturer);
+    byte[] descriptorSet = generated.exportDescriptorSet();
+    Proto3Schema loaded = check new (Lecturer, descriptorSet);
+
+    byte[] encoded = check loaded.serialize(lecturer);
+    test:assertEquals(encoded, check generated.serialize(lecturer));
+    Lecturer decoded = check loaded.deserialize(encoded);
+    test:assertEquals(decoded, lecturer);
+}
+
+@test:Config {}
+public isolated function testLoadSchemaOfAnotherType() returns error? {
+    string expected = "Failed to load descriptor set: message not found: StringValue";
+    byte[] descriptorSet = (check new Proto3Schema(int)).exportDescriptorSet();
+
+    Proto3Schema|error ser = new (string, descriptorSet);
+
+    test:assertTrue(ser is Error);
+    Error err = <Error> ser;
+    test:assertEquals(err.message(), expected);
+}
+
+@test:Config {}
+public isolated function testLoadIncompatibleSchema() returns error? {
+    string expected = "Descriptor set is not compatible with the data type: "
+        + "field arrayField of message ArrayBuilder is of type sint64, not double";
+    byte[] descriptorSet = (check new Proto3Schema(IntArray)).exportDescriptorSet();
+
+    Proto3Schema|error ser = new (FloatArray, descriptorSet);
+
+    test:assertTrue(ser is Error);
+    Error err = <Error> ser;
+    test:assertEquals(err.message(), expected);
+}
+
+@test:Config {}
+public isolated function testLoadSchemaWithMoreTupleElements() returns error? {
+    string expected = "Descriptor set is not compatible with the data type: "
+        + "field element_3 of message TupleBuilder has no element in a tuple of 2 elements";
+    byte[] descriptorSet = (check new Proto3Schema(LecturerCode)).exportDescriptorSet();
+
+    Proto3Schema|error ser = new (ShortLecturerCode, descriptorSet);
+
+    test:assertTrue(ser is Error);
+    Error err = <Error> ser;
+    test:assertEquals(err.message(), expected);
+}
+
+@test:Config {}
+public isolated function testLoadSchemaWithScalarForMessageField() returns error? {
+    string expected = "Descriptor set is not compatible with the data type: "
+        + "field element_1 of message TupleBuilder is of type string, not message";
+    byte[] descriptorSet = (check new Proto3Schema(LecturerCode)).exportDescriptorSet();
+
+    Proto3Schema|error ser = new (LecturerCodeOfRecord, descriptorSet);
+
+    test:assertTrue(ser is Error);
+    Error err = <Error> ser;
+    test:assertEquals(err.message(), expected);
+}
+
+@test:Config {}
+public isolated function testLoadInvalidDescriptorSet() {
+    Proto3Schema|error ser = new (Lecturer, [255, 255, 255]);
+
+    test:assertTrue(ser is Error);
+    Error err = <Error> ser;
+    test:assertTrue(err.message().startsWith("Failed to load descriptor set: "));
+}
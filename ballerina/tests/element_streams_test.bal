@@ -0,0 +1,117 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+type StudentArray Student[];
+
+isolated function toChunks(byte[] encoded, int chunkSize) returns stream<byte[], io:Error?> {
+    byte[][] chunks = [];
+    int offset = 0;
+    while offset < encoded.length() {
+        int chunkEnd = int:min(offset + chunkSize, encoded.length());
+        chunks.push(encoded.slice(offset, chunkEnd));
+        offset = chunkEnd;
+    }
+    return chunks.toStream();
+}
+
+@test:Config {}
+public isolated function testDeserializeElementsOfArray() returns error? {
+    Student[] students = createStudents(1000);
+    Proto3Schema ser = check new (StudentArray);
+    byte[] encoded = check ser.serialize(students);
+
+    // Elements span more than one chunk
+    stream<Student, Error?> elements = check ser.deserializeElements(toChunks(encoded, 7));
+    Student[] decoded = check from Student student in elements select student;
+    test:assertEquals(decoded, students);
+}
+
+@test:Config {}
+public isolated function testDeserializeElementsOfPackedArray() returns error? {
+    IntArray numbers = [0, -1, 1, 300, int:MAX_VALUE, int:MIN_VALUE, 42];
+    Proto3Schema ser = check new (IntArray);
+    byte[] encoded = check ser.serialize(numbers);
+
+    stream<int, Error?> elements = check ser.deserializeElements(toChunks(encoded, 3));
+    int[] decoded = check from int number in elements select number;
+    test:assertEquals(decoded, numbers);
+}
+
+@test:Config {}
+public isolated function testDeserializeRowsOfTable() returns error? {
+    ReadingTable readings = createReadings(50);
+    Proto3Schema ser = check new (ReadingTable);
+    byte[] encoded = check ser.serialize(readings);
+
+    stream<Reading, Error?> rows = check ser.deserializeElements(toChunks(encoded, 64));
+    Reading[] decoded = check from Reading reading in rows select reading;
+    test:assertEquals(decoded, readings.toArray());
+}
+
+@test:Config {}
+public isolated function testDeserializeElementsFromFile() returns error? {
+    string filePath = "element_stream.bin";
+    Student[] students = createStudents(2000);
+    Proto3Schema ser = check new (StudentArray);
+    check io:fileWriteBytes(filePath, check ser.serialize(students));
+
+    stream<byte[], io:Error?> blocks = check io:fileReadBlocksAsStream(filePath, 128);
+    stream<Student, Error?> elements = check ser.deserializeElements(blocks);
+    Student[] decoded = check from Student student in elements select student;
+    test:assertEquals(decoded, students);
+}
+
+@test:Config {}
+public isolated function testDeserializeElementsOfUnsupportedSchemas() returns error? {
+    Proto3Schema recordSchema = check new (Student);
+    stream<anydata, Error?>|Error recordElements = recordSchema.deserializeElements(toChunks([], 1));
+    test:assertTrue(recordElements is Error);
+
+    Proto3Schema columnarSchema = check new (ReadingTable, columnarTables = true);
+    stream<Reading, Error?>|Error columns = columnarSchema.deserializeElements(toChunks([], 1));
+    test:assertTrue(columns is Error);
+}
+
+@test:Config {}
+public isolated function testDeserializeElementsOfTruncatedInput() returns error? {
+    Student[] students = createStudents(3);
+    Proto3Schema ser = check new (StudentArray);
+    byte[] encoded = check ser.serialize(students);
+
+    byte[] truncated = encoded.slice(0, encoded.length() - 1);
+    stream<Student, Error?> elements = check ser.deserializeElements(toChunks(truncated, 5));
+    Student[]|Error decoded = from Student student in elements select student;
+    test:assertTrue(decoded is Error);
+    if decoded is Error {
+        test:assertEquals(decoded.message(), CHUNK_READ_FAILURE + TRUNCATED_MESSAGE);
+    }
+}
+
+@test:Config {}
+public isolated function testDeserializeElementsWithMismatchedType() returns error? {
+    string expectedPrefix = "Failed to Deserialize data: Type mismatch";
+    Proto3Schema ser = check new (StudentArray);
+    byte[] encoded = check ser.serialize(createStudents(3));
+
+    stream<StudentWithCourseName, Error?> elements = check ser.deserializeElements(toChunks(encoded, 5));
+    StudentWithCourseName[]|Error decoded = from StudentWithCourseName student in elements select student;
+    test:assertTrue(decoded is Error);
+    Error err = <Error>decoded;
+    test:assertTrue(err.message().startsWith(expectedPrefix));
+}
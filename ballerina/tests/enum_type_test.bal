@@ -108,3 +108,39 @@ public isolated function testEnumWithStringValues()returns error? {
     Region decoded = check des.deserialize(encoded);
     test:assertEquals(decoded, data);
 }
+
+type RecordWithEnumFields record {
+    Region region;
+    Region[] regions;
+    OptionalState state;
+};
+
+@test:Config {}
+public isolated function testEnumEncodedAsEnumNumber() returns error? {
+    // Values are numbered from 1 in the sorted order ANZ, APAC, EU 1, EU 2, EU 3, MEA, NA
+    Region data = EU3;
+    Proto3Schema ser = check new (Region);
+    byte[] encoded = check ser.serialize(data);
+
+    // Tag of the enum field and the number of the value instead of the length delimited string value
+    test:assertEquals(encoded, [0x08, 0x05]);
+    test:assertEquals(check ser.serialize(NA), [0x08, 0x07]);
+
+    // Names of the enum values of strings with spaces are escaped, the strings are recovered from the names
+    Proto3Schema des = check new (Region);
+    Region decoded = check des.deserialize(encoded);
+    test:assertEquals(decoded, EU3);
+    Region decodedFromNumber = check des.deserialize([0x08, 0x03]);
+    test:assertEquals(decodedFromNumber, EU1);
+}
+
+@test:Config {}
+public isolated function testRecordWithEnumFields() returns error? {
+    RecordWithEnumFields data = {region: EU1, regions: [NA, EU2, ANZ, EU1], state: CLOSE};
+    Proto3Schema ser = check new (RecordWithEnumFields);
+    byte[] encoded = check ser.serialize(data);
+
+    Proto3Schema des = check new (RecordWithEnumFields);
+    RecordWithEnumFields decoded = check des.deserialize(encoded);
+    test:assertEquals(decoded, data);
+}
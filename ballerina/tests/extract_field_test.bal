@@ -0,0 +1,108 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {}
+public isolated function testExtractField() returns error? {
+    Account account = createAccount();
+    account.rating = 4;
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(account);
+
+    string name = check ser.extractField(encoded, "name");
+    test:assertEquals(name, account.name);
+    int age = check ser.extractField(encoded, "age");
+    test:assertEquals(age, account.age);
+    Contact[] contacts = check ser.extractField(encoded, "contacts");
+    test:assertEquals(contacts, account.contacts);
+    int? rating = check ser.extractField(encoded, "rating");
+    test:assertEquals(rating, 4);
+}
+
+@test:Config {}
+public isolated function testExtractNestedField() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(account);
+
+    string country = check ser.extractField(encoded, "address.country");
+    test:assertEquals(country, "Sri Lanka");
+    string street = check ser.extractField(encoded, "address.street.street1");
+    test:assertEquals(street, "Main St");
+
+    // Fields of optional records which are not present are nil
+    account.address = ();
+    encoded = check ser.serialize(account);
+    string? noCountry = check ser.extractField(encoded, "address.country");
+    test:assertEquals(noCountry, ());
+}
+
+@test:Config {}
+public isolated function testExtractAbsentField() returns error? {
+    Account account = {name: "", age: 0, img: [], contacts: [], address: ()};
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(account);
+
+    string name = check ser.extractField(encoded, "name");
+    test:assertEquals(name, "");
+    int? rating = check ser.extractField(encoded, "rating");
+    test:assertEquals(rating, ());
+}
+
+@test:Config {}
+public isolated function testExtractFieldWithStringDictionary() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account, stringDictionary = true);
+    byte[] encoded = check ser.serialize(account);
+
+    string country = check ser.extractField(encoded, "address.country");
+    test:assertEquals(country, "Sri Lanka");
+}
+
+@test:Config {}
+public isolated function testExtractUndefinedField() returns error? {
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(createAccount());
+
+    anydata|Error email = ser.extractField(encoded, "contact.email");
+    test:assertTrue(email is Error);
+    if email is Error {
+        test:assertEquals(email.message(), "Field path is not defined in the record type: contact.email");
+    }
+
+    anydata|Error mobile = ser.extractField(encoded, "contacts.mobile");
+    test:assertTrue(mobile is Error);
+    if mobile is Error {
+        test:assertEquals(mobile.message(), "Field path does not refer to a field of a record: contacts.mobile");
+    }
+}
+
+@test:Config {}
+public isolated function testExtractFieldWithMismatchedType() returns error? {
+    string expectedPrefix = "Failed to Deserialize data: Type mismatch";
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(createAccount());
+
+    string|Error age = ser.extractField(encoded, "age");
+    test:assertTrue(age is Error);
+    Error err = <Error>age;
+    test:assertTrue(err.message().startsWith(expectedPrefix));
+
+    // Nil of an absent optional field is not a value of a non optional type
+    int|Error rating = ser.extractField(encoded, "rating");
+    test:assertTrue(rating is Error);
+}
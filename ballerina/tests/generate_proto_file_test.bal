@@ -54,3 +54,20 @@ public isolated function testGenerateProtoFileForRecord() returns error? {
     string protoFileContent = check io:fileReadString(protofileName);
     test:assertEquals(protoFileContent, expectedProtoFileContent);
 }
+
+type Payment record {
+    decimal amount;
+    decimal[] installments;
+};
+
+@test:Config {}
+public isolated function testGenerateProtoFileForRecordWithDecimalFields() returns error? {
+    string protofileName = "Payment.proto";
+    string expectedProtoFileContent = check io:fileReadString(TARGET_PROTO_FILE_DIRECTORY + protofileName);
+
+    Proto3Schema ser = check new (Payment);
+    check ser.generateProtoFile(protofileName);
+
+    string protoFileContent = check io:fileReadString(protofileName);
+    test:assertEquals(protoFileContent, expectedProtoFileContent);
+}
@@ -171,6 +171,23 @@ public isolated function testMapArray() returns error? {
     test:assertEquals(decode, data);
 }
 
+@test:Config{}
+public isolated function testMapArrayWithMultipleEntries() returns error? {
+
+    MapArray data = {
+        "first" : [[1, 2]],
+        "second" : [[3]]
+    };
+
+    Proto3Schema ser = check new(MapArray);
+    byte[] encode = check ser.serialize(data);
+
+    Proto3Schema des = check new(MapArray);
+    MapArray decode = check des.deserialize(encode);
+
+    test:assertEquals(decode, data);
+}
+
 @test:Config{}
 public isolated function testMapRecord() returns error? {
 
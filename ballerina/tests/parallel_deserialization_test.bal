@@ -0,0 +1,73 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+// The tests of this file enable parallelism only while they run, so arrays and tables with at least
+// `PARALLEL_TEST_THRESHOLD` elements are deserialized in parallel and the rest of the suite runs with the default
+// configuration
+
+@test:Config {
+    before: enableParallelism,
+    after: disableParallelism
+}
+public isolated function testParallelDeserializationOfArray() returns error? {
+    Student[] students = createStudents(1000);
+    Proto3Schema ser = check new (StudentArray);
+    Student[] decoded = check ser.deserialize(check ser.serialize(students));
+    test:assertEquals(decoded, students);
+}
+
+@test:Config {
+    before: enableParallelism,
+    after: disableParallelism
+}
+public isolated function testParallelDeserializationOfConcatenatedArrays() returns error? {
+    Student[] first = createStudents(600);
+    Student[] second = createStudents(700);
+    Proto3Schema ser = check new (StudentArray);
+    byte[] encoded = check ser.serialize(first);
+    encoded.push(...check ser.serialize(second));
+
+    // Occurrences of the repeated field of both arrays are read as the elements of a single array
+    Student[] decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, [...first, ...second]);
+}
+
+@test:Config {
+    before: enableParallelism,
+    after: disableParallelism
+}
+public isolated function testParallelDeserializationOfTable() returns error? {
+    ReadingTable readings = createReadings(500);
+    Proto3Schema ser = check new (ReadingTable);
+    ReadingTable decoded = check ser.deserialize(check ser.serialize(readings));
+    test:assertEquals(decoded.toArray(), readings.toArray());
+}
+
+@test:Config {
+    before: enableParallelism,
+    after: disableParallelism
+}
+public isolated function testParallelDeserializationOfTruncatedElement() returns error? {
+    Student[] students = createStudents(1000);
+    Proto3Schema ser = check new (StudentArray);
+    byte[] encoded = check ser.serialize(students);
+
+    // Last element is truncated
+    Student[]|Error decoded = ser.deserialize(encoded.slice(0, encoded.length() - 1));
+    test:assertTrue(decoded is Error);
+}
@@ -0,0 +1,108 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+// The tests of this file enable parallelism only while they run, so arrays and tables with at least
+// `PARALLEL_TEST_THRESHOLD` elements are serialized in parallel and the rest of the suite runs with the default
+// configuration
+
+// Occurrences of a repeated field can be concatenated, so the bytes of an array are the bytes of its elements
+isolated function serializeOneByOne(Proto3Schema ser, anydata[] elements, typedesc<anydata[]> arrayType)
+        returns byte[]|error {
+    byte[] encoded = [];
+    foreach anydata element in elements {
+        anydata[] singleElement = check [element].cloneWithType(arrayType);
+        encoded.push(...check ser.serialize(singleElement));
+    }
+    return encoded;
+}
+
+@test:Config {
+    before: enableParallelism,
+    after: disableParallelism
+}
+public isolated function testParallelSerializationOfArray() returns error? {
+    Student[] students = createStudents(1000);
+    Proto3Schema ser = check new (StudentArray);
+    byte[] encoded = check ser.serialize(students);
+
+    test:assertEquals(encoded, check serializeOneByOne(ser, students, StudentArray));
+    Student[] decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, students);
+}
+
+@test:Config {
+    before: enableParallelism,
+    after: disableParallelism
+}
+public isolated function testParallelSerializationOfStringArray() returns error? {
+    StringArray names = from int i in 0 ..< 1000 select "name-" + i.toString();
+    Proto3Schema ser = check new (StringArray);
+    byte[] encoded = check ser.serialize(names);
+
+    test:assertEquals(encoded, check serializeOneByOne(ser, names, StringArray));
+    StringArray decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, names);
+}
+
+@test:Config {
+    before: enableParallelism,
+    after: disableParallelism
+}
+public isolated function testParallelSerializationOfTable() returns error? {
+    ReadingTable readings = createReadings(500);
+    Proto3Schema ser = check new (ReadingTable);
+    byte[] encoded = check ser.serialize(readings);
+
+    byte[] rowByRow = [];
+    foreach Reading reading in readings {
+        ReadingTable singleRow = table [];
+        singleRow.add(reading);
+        rowByRow.push(...check ser.serialize(singleRow));
+    }
+    test:assertEquals(encoded, rowByRow);
+    ReadingTable decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, readings);
+}
+
+@test:Config {
+    before: enableParallelism,
+    after: disableParallelism
+}
+public isolated function testParallelSerializationInto() returns error? {
+    Student[] students = createStudents(1000);
+    Proto3Schema ser = check new (StudentArray);
+    byte[] encoded = check ser.serialize(students);
+
+    byte[] target = [];
+    target.setLength(encoded.length() + 3);
+    int writtenSize = check ser.serializeInto(students, target, 3);
+    test:assertEquals(writtenSize, encoded.length());
+    test:assertEquals(target.slice(3), encoded);
+}
+
+const PARALLEL_TEST_PARALLELISM = 4;
+const PARALLEL_TEST_THRESHOLD = 100;
+
+function enableParallelism() {
+    setParallelism(PARALLEL_TEST_PARALLELISM, PARALLEL_TEST_THRESHOLD);
+}
+
+// Restores the configuration of the module
+function disableParallelism() {
+    setParallelism(parallelism, parallelThreshold);
+}
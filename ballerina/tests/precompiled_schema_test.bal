@@ -0,0 +1,80 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+type PrecompiledStudent record {
+    int id;
+    string name;
+};
+
+type CorruptedStudent record {
+    int id;
+};
+
+type MismatchedStudent record {
+    string id;
+};
+
+type MismatchedStudentSource record {
+    int id;
+};
+
+isolated function registerSchema(typedesc<anydata> T, byte[] fileDescriptor, string proto3) returns boolean =
+@java:Method {
+    'class: "io.ballerina.stdlib.serdes.PrecompiledSchemas"
+} external;
+
+@test:Config {}
+public isolated function testRegisterSchemaOnlyOnce() {
+    test:assertTrue(registerSchema(PrecompiledStudent, [], ""));
+    test:assertFalse(registerSchema(PrecompiledStudent, [], ""));
+}
+
+@test:Config {}
+public isolated function testCorruptedPrecompiledSchema() {
+    string expectedPrefix = "Failed to load precompiled schema: ";
+    test:assertTrue(registerSchema(CorruptedStudent, [255, 255, 255], ""));
+
+    Proto3Schema|error ser = new (CorruptedStudent);
+
+    test:assertTrue(ser is Error);
+    Error err = <Error> ser;
+    test:assertTrue(err.message().startsWith(expectedPrefix));
+}
+
+@test:Config {}
+public isolated function testMismatchedPrecompiledSchema() returns error? {
+    string expectedPrefix = "Failed to load precompiled schema: ";
+    byte[] descriptorSet = (check new Proto3Schema(MismatchedStudentSource)).exportDescriptorSet();
+    test:assertTrue(registerSchema(MismatchedStudent, toFileDescriptor(descriptorSet), ""));
+
+    Proto3Schema|error ser = new (MismatchedStudent);
+
+    test:assertTrue(ser is Error);
+    Error err = <Error> ser;
+    test:assertTrue(err.message().startsWith(expectedPrefix));
+}
+
+// Descriptor sets exported by a schema hold a single file, which is the first field of the set
+isolated function toFileDescriptor(byte[] descriptorSet) returns byte[] {
+    int offset = 1;
+    while descriptorSet[offset] >= 128 {
+        offset += 1;
+    }
+    return descriptorSet.slice(offset + 1);
+}
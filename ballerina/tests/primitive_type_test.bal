@@ -87,3 +87,34 @@ public isolated function testPrimitiveDecimal() returns error? {
     decimal decoded = check des.deserialize(encoded);
     test:assertEquals(decoded, value);
 }
+
+@test:Config {}
+public isolated function testSerializeInto() returns error? {
+    string value = "module-ballerina-serdes";
+
+    Proto3Schema ser = check new (string);
+    byte[] encoded = check ser.serialize(value);
+    byte[] target = [];
+    target.setLength(encoded.length + 4);
+    int writtenSize = check ser.serializeInto(value, target, 4);
+    test:assertEquals(writtenSize, encoded.length);
+    test:assertEquals(target.slice(4), encoded);
+
+    Proto3Schema des = check new (string);
+    string decoded = check des.deserialize(target.slice(4));
+    test:assertEquals(decoded, value);
+}
+
+@test:Config {}
+public isolated function testSerializeIntoSmallTarget() returns error? {
+    string expected = "Failed to Serialize data: Not enough space in the target array, required size: 25";
+
+    Proto3Schema ser = check new (string);
+    byte[] target = [];
+    target.setLength(10);
+    int|Error writtenSize = ser.serializeInto("module-ballerina-serdes", target);
+
+    test:assertTrue(writtenSize is Error);
+    Error err = <Error>writtenSize;
+    test:assertEquals(err.message(), expected);
+}
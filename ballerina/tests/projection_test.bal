@@ -0,0 +1,89 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type MobileContact record {
+    string mobile;
+};
+
+type AccountSummary record {
+    string name;
+    MobileContact[] contacts;
+    int rating?;
+};
+
+type AccountName record {|
+    string name;
+|};
+
+type InvalidAccountSummary record {
+    int name;
+};
+
+@test:Config {}
+public isolated function testDeserializeProjection() returns error? {
+    Account account = createAccount();
+    account.rating = 5;
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(account);
+
+    AccountSummary summary = check ser.deserialize(encoded);
+    AccountSummary expected = {
+        name: account.name,
+        contacts: [{mobile: account.contacts[0].mobile}, {mobile: account.contacts[1].mobile}],
+        rating: 5
+    };
+    test:assertEquals(summary, expected);
+
+    AccountName accountName = check ser.deserialize(encoded);
+    test:assertEquals(accountName, {name: account.name});
+}
+
+@test:Config {}
+public isolated function testDeserializeProjectionWithStringDictionary() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account, stringDictionary = true);
+    byte[] encoded = check ser.serialize(account);
+
+    AccountName accountName = check ser.deserialize(encoded);
+    test:assertEquals(accountName, {name: account.name});
+}
+
+@test:Config {}
+public isolated function testDeserializeIntoSupertype() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(account);
+
+    // Expected types without fields are not projections
+    record {} decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, account);
+}
+
+@test:Config {}
+public isolated function testDeserializeInvalidProjection() returns error? {
+    string expected = "Descriptor set is not compatible with the data type: "
+        + "field name of message Account is of type string, not sint64";
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(createAccount());
+
+    InvalidAccountSummary|Error summary = ser.deserialize(encoded);
+    test:assertTrue(summary is Error);
+    if summary is Error {
+        test:assertEquals(summary.message(), expected);
+    }
+}
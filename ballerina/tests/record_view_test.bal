@@ -0,0 +1,132 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type AccountSummary record {|
+    string name;
+    int age;
+|};
+
+isolated function createAccount() returns Account {
+    return {
+        name: "Jane",
+        age: 31,
+        img: [1, 2, 3],
+        contacts: [{mobile: "+94111111111", home: "+94112222222"}, {mobile: "+94113333333", home: ""}],
+        address: {street: {street1: "Main St", street2: "Old Town"}, country: "Sri Lanka"}
+    };
+}
+
+@test:Config {}
+public isolated function testRecordViewFields() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(account);
+
+    RecordView view = check ser.deserializeView(encoded);
+    test:assertEquals(check view.get("name"), account.name);
+    test:assertEquals(check view.get("age"), account.age);
+    test:assertEquals(check view.get("contacts"), account.contacts);
+    test:assertEquals(check view.get("address"), account.address);
+    // Fields are deserialized once
+    test:assertEquals(check view.get("name"), account.name);
+}
+
+@test:Config {}
+public isolated function testRecordViewOptionalFields() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(account);
+
+    RecordView view = check ser.deserializeView(encoded);
+    test:assertFalse(check view.hasField("rating"));
+    test:assertEquals(check view.get("rating"), ());
+    test:assertTrue(check view.hasField("name"));
+
+    account.rating = 4;
+    view = check ser.deserializeView(check ser.serialize(account));
+    test:assertTrue(check view.hasField("rating"));
+    test:assertEquals(check view.get("rating"), 4);
+}
+
+@test:Config {}
+public isolated function testRecordViewToRecord() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account);
+    byte[] encoded = check ser.serialize(account);
+
+    RecordView view = check ser.deserializeView(encoded);
+    _ = check view.get("contacts");
+    Account decoded = check view.toRecord();
+    test:assertEquals(decoded, account);
+    test:assertEquals(decoded, check ser.deserialize(encoded));
+}
+
+@test:Config {}
+public isolated function testRecordViewDoesNotShareFields() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account);
+    RecordView view = check ser.deserializeView(check ser.serialize(account));
+
+    Contact[] contacts = <Contact[]> check view.get("contacts");
+    Account decoded = check view.toRecord();
+    contacts.push({mobile: "+94114444444", home: ""});
+    decoded.contacts[0].mobile = "";
+
+    test:assertEquals(check view.get("contacts"), account.contacts);
+    test:assertEquals(check view.toRecord(), account);
+}
+
+@test:Config {}
+public isolated function testRecordViewToRecordWithMismatchedType() returns error? {
+    string expectedPrefix = "Failed to Deserialize data: Type mismatch";
+    Proto3Schema ser = check new (Account);
+    RecordView view = check ser.deserializeView(check ser.serialize(createAccount()));
+
+    AccountSummary|Error summary = view.toRecord();
+
+    test:assertTrue(summary is Error);
+    Error err = <Error>summary;
+    test:assertTrue(err.message().startsWith(expectedPrefix));
+}
+
+@test:Config {}
+public isolated function testRecordViewWithStringDictionary() returns error? {
+    Account account = createAccount();
+    Proto3Schema ser = check new (Account, stringDictionary = true);
+    byte[] encoded = check ser.serialize(account);
+
+    RecordView view = check ser.deserializeView(encoded);
+    test:assertEquals(check view.get("name"), account.name);
+    Account decoded = check view.toRecord();
+    test:assertEquals(decoded, account);
+}
+
+@test:Config {}
+public isolated function testRecordViewErrors() returns error? {
+    Proto3Schema ser = check new (Account);
+    RecordView view = check ser.deserializeView(check ser.serialize(createAccount()));
+    anydata|Error undefinedField = view.get("email");
+    test:assertTrue(undefinedField is Error);
+    if undefinedField is Error {
+        test:assertEquals(undefinedField.message(), "Field is not defined in the record type: email");
+    }
+
+    Proto3Schema arraySchema = check new (RecordArray);
+    RecordView|Error arrayView = arraySchema.deserializeView([]);
+    test:assertTrue(arrayView is Error);
+}
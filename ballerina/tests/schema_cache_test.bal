@@ -0,0 +1,53 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+type CachedCourse record {
+    string name;
+    decimal fee;
+};
+
+isolated function getSchemaCacheHitCount() returns int = @java:Method {
+    name: "getHitCount",
+    'class: "io.ballerina.stdlib.serdes.SchemaCache"
+} external;
+
+isolated function getSchemaCacheMissCount() returns int = @java:Method {
+    name: "getMissCount",
+    'class: "io.ballerina.stdlib.serdes.SchemaCache"
+} external;
+
+@test:Config {}
+public isolated function testSchemaCacheHit() returns error? {
+    int hitCount = getSchemaCacheHitCount();
+    int missCount = getSchemaCacheMissCount();
+
+    Proto3Schema _ = check new (CachedCourse);
+    test:assertEquals(getSchemaCacheMissCount(), missCount + 1);
+    test:assertEquals(getSchemaCacheHitCount(), hitCount);
+
+    // Schema of the same type is taken from the cache
+    Proto3Schema _ = check new (CachedCourse);
+    test:assertEquals(getSchemaCacheMissCount(), missCount + 1);
+    test:assertEquals(getSchemaCacheHitCount(), hitCount + 1);
+
+    // Schemas generated with other options are cached separately
+    Proto3Schema _ = check new (CachedCourse, compactDecimals = true);
+    test:assertEquals(getSchemaCacheMissCount(), missCount + 2);
+    test:assertEquals(getSchemaCacheHitCount(), hitCount + 1);
+}
@@ -0,0 +1,131 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type Metric record {
+    string host;
+    string region;
+    string[] labels;
+    float value;
+};
+
+type MetricMap map<Metric>;
+
+type LogLine record {|
+    string level;
+    string logger;
+    string message;
+|};
+
+type LogTable table<LogLine>;
+
+type RecordWithDictionaryField record {
+    string stringDictionary;
+};
+
+isolated function createMetrics(int count) returns MetricMap {
+    MetricMap metrics = {};
+    foreach int i in 0 ..< count {
+        metrics["metric-" + i.toString()] = {
+            host: "host-" + (i % 4).toString(),
+            region: i % 2 == 0 ? "us-east" : "eu-west",
+            labels: ["production", "", "tier-" + (i % 3).toString()],
+            value: <float>i
+        };
+    }
+    return metrics;
+}
+
+isolated function createLogLines(int count) returns LogTable {
+    LogTable lines = table [];
+    foreach int i in 0 ..< count {
+        lines.add({level: i % 5 == 0 ? "WARN" : "INFO", logger: "http-listener", message: "request served"});
+    }
+    return lines;
+}
+
+@test:Config {}
+public isolated function testStringDictionaryWithMap() returns error? {
+    MetricMap metrics = createMetrics(10);
+
+    Proto3Schema ser = check new (MetricMap, stringDictionary = true);
+    byte[] encoded = check ser.serialize(metrics);
+    MetricMap decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, metrics);
+}
+
+@test:Config {}
+public isolated function testStringDictionaryWithArray() returns error? {
+    string[] data = ["alpha", "beta", "", "alpha", "beta", "alpha"];
+
+    Proto3Schema ser = check new (StringArray, stringDictionary = true);
+    byte[] encoded = check ser.serialize(data);
+    string[] decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, data);
+}
+
+@test:Config {}
+public isolated function testStringDictionaryWithColumnarTable() returns error? {
+    LogTable lines = createLogLines(20);
+
+    Proto3Schema ser = check new (LogTable, columnarTables = true, stringDictionary = true);
+    byte[] encoded = check ser.serialize(lines);
+    LogTable decoded = check ser.deserialize(encoded);
+    test:assertEquals(decoded, lines);
+}
+
+@test:Config {}
+public isolated function testStringDictionaryIsSmaller() returns error? {
+    LogTable lines = createLogLines(100);
+
+    Proto3Schema stringSchema = check new (LogTable);
+    Proto3Schema dictionarySchema = check new (LogTable, stringDictionary = true);
+    byte[] stringEncoded = check stringSchema.serialize(lines);
+    byte[] dictionaryEncoded = check dictionarySchema.serialize(lines);
+    test:assertTrue(dictionaryEncoded.length() < stringEncoded.length());
+}
+
+@test:Config {}
+public isolated function testStringDictionaryDoesNotChangeStrings() returns error? {
+    Proto3Schema stringSchema = check new (string);
+    Proto3Schema dictionarySchema = check new (string, stringDictionary = true);
+    test:assertEquals(check dictionarySchema.serialize("serdes"), check stringSchema.serialize("serdes"));
+}
+
+@test:Config {}
+public isolated function testLoadStringDictionaryFromDescriptorSet() returns error? {
+    MetricMap metrics = createMetrics(5);
+
+    Proto3Schema generated = check new (MetricMap, stringDictionary = true);
+    Proto3Schema loaded = check new (MetricMap, generated.exportDescriptorSet());
+
+    byte[] encoded = check generated.serialize(metrics);
+    test:assertEquals(check loaded.serialize(metrics), encoded);
+    MetricMap decoded = check loaded.deserialize(encoded);
+    test:assertEquals(decoded, metrics);
+}
+
+@test:Config {}
+public isolated function testStringDictionaryFieldNameConflict() returns error? {
+    string expected = "Field name is reserved for the string dictionary: stringDictionary";
+
+    Proto3Schema|error ser = new (RecordWithDictionaryField, stringDictionary = true);
+
+    test:assertTrue(ser is Error);
+    Error err = <Error>ser;
+    test:assertEquals(err.message(), expected);
+}
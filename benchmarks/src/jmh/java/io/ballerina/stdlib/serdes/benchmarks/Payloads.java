@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes.benchmarks;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link Payloads} class creates the ballerina types and values used by the benchmarks.
+ * <p>
+ * Types are created the same way as the types of a ballerina module, values of structured types hold the given number
+ * of elements, entries or rows. Structured types which would be anonymous in a ballerina module are wrapped in the
+ * {@code Payload} record, so the generated message names are the same as the names of a module.
+ */
+final class Payloads {
+
+    /**
+     * Type families covered by the benchmarks.
+     */
+    enum TypeFamily {
+        INT,
+        STRING,
+        DECIMAL,
+        ENUM,
+        INT_ARRAY,
+        FLOAT_ARRAY,
+        BYTE_ARRAY,
+        STRING_ARRAY,
+        MULTI_DIMENSIONAL_ARRAY,
+        RECORD,
+        MAP,
+        TABLE,
+        TUPLE,
+        UNION
+    }
+
+    private static final Module MODULE = new Module("ballerina", "serdes_benchmarks", "0");
+    private static final int TYPE_FLAGS = TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE);
+    private static final int MATRIX_COLUMNS = 10;
+    private static final String[] COLORS = {"RED", "GREEN", "BLUE"};
+
+    private static final Type COLOR = TypeCreator.createFiniteType("Color",
+            Set.of(StringUtils.fromString(COLORS[0]), StringUtils.fromString(COLORS[1]),
+                    StringUtils.fromString(COLORS[2])), TYPE_FLAGS);
+    private static final RecordType ADDRESS = createRecordType("Address", Map.of(
+            "street", PredefinedTypes.TYPE_STRING,
+            "number", PredefinedTypes.TYPE_INT,
+            "city", PredefinedTypes.TYPE_STRING));
+    private static final RecordType PERSON = createPersonType();
+    private static final ArrayType PEOPLE = TypeCreator.createArrayType(PERSON);
+
+    private Payloads() {
+    }
+
+    static Type createType(TypeFamily typeFamily) {
+        switch (typeFamily) {
+            case INT:
+                return PredefinedTypes.TYPE_INT;
+            case STRING:
+                return PredefinedTypes.TYPE_STRING;
+            case DECIMAL:
+                return PredefinedTypes.TYPE_DECIMAL;
+            case ENUM:
+                return COLOR;
+            case INT_ARRAY:
+                return TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+            case FLOAT_ARRAY:
+                return TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT);
+            case BYTE_ARRAY:
+                return TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE);
+            case STRING_ARRAY:
+                return TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+            case MULTI_DIMENSIONAL_ARRAY:
+                return TypeCreator.createArrayType(TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+            case RECORD:
+                return createRecordType("Group", Map.of("name", PredefinedTypes.TYPE_STRING, "members", PEOPLE));
+            case MAP:
+                return createPayloadType(TypeCreator.createMapType(PERSON));
+            case TABLE:
+                return createPayloadType(TypeCreator.createTableType(PERSON, false));
+            case TUPLE:
+                return createPayloadType(TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT,
+                        PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_DECIMAL, PEOPLE)));
+            case UNION:
+                UnionType event = TypeCreator.createUnionType(List.of(PERSON, ADDRESS, PredefinedTypes.TYPE_STRING,
+                        PredefinedTypes.TYPE_INT));
+                RecordType envelope = createRecordType("Envelope", Map.of("event", event));
+                return createPayloadType(TypeCreator.createArrayType(envelope));
+            default:
+                throw new IllegalArgumentException(typeFamily.name());
+        }
+    }
+
+    static Object createValue(TypeFamily typeFamily, Type type, int size) {
+        switch (typeFamily) {
+            case INT:
+                return 1234567890L;
+            case STRING:
+                return StringUtils.fromString("s".repeat(size));
+            case DECIMAL:
+                return ValueCreator.createDecimalValue(new BigDecimal("1234567.891"));
+            case ENUM:
+                return StringUtils.fromString(COLORS[1]);
+            case INT_ARRAY:
+                long[] ints = new long[size];
+                for (int i = 0; i < size; i++) {
+                    ints[i] = (long) i * i - size;
+                }
+                return ValueCreator.createArrayValue(ints);
+            case FLOAT_ARRAY:
+                double[] floats = new double[size];
+                for (int i = 0; i < size; i++) {
+                    floats[i] = i * 0.25;
+                }
+                return ValueCreator.createArrayValue(floats);
+            case BYTE_ARRAY:
+                byte[] bytes = new byte[size];
+                for (int i = 0; i < size; i++) {
+                    bytes[i] = (byte) i;
+                }
+                return ValueCreator.createArrayValue(bytes);
+            case STRING_ARRAY:
+                BString[] strings = new BString[size];
+                for (int i = 0; i < size; i++) {
+                    strings[i] = StringUtils.fromString("value-" + i);
+                }
+                return ValueCreator.createArrayValue(strings);
+            case MULTI_DIMENSIONAL_ARRAY:
+                BArray matrix = ValueCreator.createArrayValue((ArrayType) type);
+                for (int i = 0; i < Math.max(1, size / MATRIX_COLUMNS); i++) {
+                    long[] row = new long[MATRIX_COLUMNS];
+                    for (int j = 0; j < MATRIX_COLUMNS; j++) {
+                        row[j] = (long) i * MATRIX_COLUMNS + j;
+                    }
+                    matrix.append(ValueCreator.createArrayValue(row));
+                }
+                return matrix;
+            case RECORD:
+                BMap<BString, Object> group = ValueCreator.createMapValue(type);
+                group.put(StringUtils.fromString("name"), StringUtils.fromString("group"));
+                group.put(StringUtils.fromString("members"), createPeople(size));
+                return group;
+            case MAP:
+                BMap<BString, Object> people = ValueCreator.createMapValue(getPayloadFieldType(type));
+                for (int i = 0; i < size; i++) {
+                    people.put(StringUtils.fromString("person-" + i), createPerson(i));
+                }
+                return createPayload(type, people);
+            case TABLE:
+                BTable<?, ?> table = ValueCreator.createTableValue((TableType) getPayloadFieldType(type));
+                for (int i = 0; i < size; i++) {
+                    addTableRow(table, createPerson(i));
+                }
+                return createPayload(type, table);
+            case TUPLE:
+                BArray tuple = ValueCreator.createTupleValue((TupleType) getPayloadFieldType(type));
+                tuple.add(0, (long) size);
+                tuple.add(1, StringUtils.fromString("tuple"));
+                tuple.add(2, ValueCreator.createDecimalValue(BigDecimal.valueOf(size, 2)));
+                tuple.add(3, createPeople(size));
+                return createPayload(type, tuple);
+            case UNION:
+                ArrayType envelopes = (ArrayType) getPayloadFieldType(type);
+                BArray events = ValueCreator.createArrayValue(envelopes);
+                for (int i = 0; i < size; i++) {
+                    BMap<BString, Object> envelope = ValueCreator.createMapValue(envelopes.getElementType());
+                    envelope.put(StringUtils.fromString("event"), createEvent(i));
+                    events.append(envelope);
+                }
+                return createPayload(type, events);
+            default:
+                throw new IllegalArgumentException(typeFamily.name());
+        }
+    }
+
+    private static RecordType createPersonType() {
+        Map<String, Type> fieldTypes = new LinkedHashMap<>();
+        fieldTypes.put("name", PredefinedTypes.TYPE_STRING);
+        fieldTypes.put("age", PredefinedTypes.TYPE_INT);
+        fieldTypes.put("score", PredefinedTypes.TYPE_FLOAT);
+        fieldTypes.put("active", PredefinedTypes.TYPE_BOOLEAN);
+        fieldTypes.put("balance", PredefinedTypes.TYPE_DECIMAL);
+        fieldTypes.put("favouriteColor", COLOR);
+        fieldTypes.put("address", ADDRESS);
+        fieldTypes.put("marks", TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        return createRecordType("Person", fieldTypes);
+    }
+
+    private static RecordType createRecordType(String name, Map<String, Type> fieldTypes) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        long fieldFlags = SymbolFlags.PUBLIC | SymbolFlags.REQUIRED;
+        fieldTypes.forEach((fieldName, fieldType) ->
+                fields.put(fieldName, TypeCreator.createField(fieldType, fieldName, fieldFlags)));
+        return TypeCreator.createRecordType(name, MODULE, SymbolFlags.PUBLIC, fields, PredefinedTypes.TYPE_NEVER,
+                true, TYPE_FLAGS);
+    }
+
+    private static RecordType createPayloadType(Type valuesType) {
+        return createRecordType("Payload", Map.of("values", valuesType));
+    }
+
+    private static Type getPayloadFieldType(Type payloadType) {
+        return ((RecordType) payloadType).getFields().get("values").getFieldType();
+    }
+
+    private static BMap<BString, Object> createPayload(Type payloadType, Object values) {
+        BMap<BString, Object> payload = ValueCreator.createMapValue(payloadType);
+        payload.put(StringUtils.fromString("values"), values);
+        return payload;
+    }
+
+    private static BArray createPeople(int size) {
+        BArray people = ValueCreator.createArrayValue(PEOPLE);
+        for (int i = 0; i < size; i++) {
+            people.append(createPerson(i));
+        }
+        return people;
+    }
+
+    private static BMap<BString, Object> createPerson(int index) {
+        BMap<BString, Object> address = ValueCreator.createMapValue(ADDRESS);
+        address.put(StringUtils.fromString("street"), StringUtils.fromString("Main Street"));
+        address.put(StringUtils.fromString("number"), (long) index);
+        address.put(StringUtils.fromString("city"), StringUtils.fromString("Colombo"));
+
+        BMap<BString, Object> person = ValueCreator.createMapValue(PERSON);
+        person.put(StringUtils.fromString("name"), StringUtils.fromString("person-" + index));
+        person.put(StringUtils.fromString("age"), (long) (index % 100));
+        person.put(StringUtils.fromString("score"), index * 1.5);
+        person.put(StringUtils.fromString("active"), index % 2 == 0);
+        person.put(StringUtils.fromString("balance"), ValueCreator.createDecimalValue(BigDecimal.valueOf(index, 2)));
+        person.put(StringUtils.fromString("favouriteColor"), StringUtils.fromString(COLORS[index % COLORS.length]));
+        person.put(StringUtils.fromString("address"), address);
+        person.put(StringUtils.fromString("marks"), ValueCreator.createArrayValue(new long[]{index, 75, 90}));
+        return person;
+    }
+
+    private static Object createEvent(int index) {
+        switch (index % 4) {
+            case 0:
+                return createPerson(index);
+            case 1:
+                return createPerson(index).get(StringUtils.fromString("address"));
+            case 2:
+                return StringUtils.fromString("event-" + index);
+            default:
+                return (long) index;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addTableRow(BTable<?, ?> table, BMap<BString, Object> row) {
+        ((BTable<Object, BMap<BString, Object>>) table).add(row);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes.benchmarks;
+
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.stdlib.serdes.GeneratedSchema;
+import io.ballerina.stdlib.serdes.SchemaGenerator;
+import io.ballerina.stdlib.serdes.benchmarks.Payloads.TypeFamily;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SchemaGenerationBenchmark} class measures the generation of schemas and plans of the benchmark types.
+ * <p>
+ * The schema cache is not used, so each invocation measures the work done when a type is seen for the first time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchemaGenerationBenchmark {
+
+    @Param
+    private TypeFamily typeFamily;
+
+    private Type type;
+
+    @Setup
+    public void setup() {
+        type = Payloads.createType(typeFamily);
+    }
+
+    @Benchmark
+    public GeneratedSchema generateSchema() throws DescriptorValidationException {
+        return SchemaGenerator.createSchema(type);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes.benchmarks;
+
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.stdlib.serdes.DeserializationPlan;
+import io.ballerina.stdlib.serdes.GeneratedSchema;
+import io.ballerina.stdlib.serdes.SchemaGenerator;
+import io.ballerina.stdlib.serdes.SchemaOptions;
+import io.ballerina.stdlib.serdes.SerializationPlan;
+import io.ballerina.stdlib.serdes.ValueReader;
+import io.ballerina.stdlib.serdes.ValueWriter;
+import io.ballerina.stdlib.serdes.benchmarks.Payloads.TypeFamily;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SerdesBenchmark} class measures serialization and deserialization of the benchmark payloads.
+ * <p>
+ * Schemas and plans are generated once per trial, so only the encoding and decoding of the values are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerdesBenchmark {
+
+    @Param
+    private TypeFamily typeFamily;
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    // Only changes the encoding of the type families with decimal values
+    @Param({"false", "true"})
+    private boolean compactDecimals;
+
+    // Only changes the encoding of the table type family
+    @Param({"false", "true"})
+    private boolean columnarTables;
+
+    // Changes the encoding of the type families with string values
+    @Param({"false", "true"})
+    private boolean stringDictionary;
+
+    private Type type;
+    private Object value;
+    private SerializationPlan serializationPlan;
+    private DeserializationPlan deserializationPlan;
+    private byte[] encodedMessage;
+
+    @Setup
+    public void setup() throws DescriptorValidationException, IOException {
+        type = Payloads.createType(typeFamily);
+        value = Payloads.createValue(typeFamily, type, size);
+        SchemaOptions schemaOptions = new SchemaOptions(compactDecimals, columnarTables, stringDictionary);
+        GeneratedSchema schema = SchemaGenerator.createSchema(type, schemaOptions);
+        serializationPlan = schema.getSerializationPlan();
+        deserializationPlan = schema.getDeserializationPlan();
+        encodedMessage = ValueWriter.serialize(value, serializationPlan, type);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return ValueWriter.serialize(value, serializationPlan, type);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return ValueReader.deserialize(encodedMessage, 0, encodedMessage.length, deserializationPlan);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes.compiler;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.EmitResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SchemaRegistrationGeneratorTest} class compiles the sample packages with the serdes compiler plugin and runs
+ * the generated executables, which serialize and deserialize values with the precompiled schemas.
+ */
+public class SchemaRegistrationGeneratorTest {
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src", "test", "resources", "ballerina_sources")
+            .toAbsolutePath();
+    private static final Path DISTRIBUTION_PATH = Paths.get("../", "target", "ballerina-runtime")
+            .toAbsolutePath();
+    private static final String GENERATED_SOURCE_PREFIX = "serdes_schemas";
+
+    @Test
+    public void testGeneratedRegistrations() {
+        Package currentPackage = generateSources("sample_package_1");
+        String generatedSource = getGeneratedSource(currentPackage.getDefaultModule());
+
+        Assert.assertTrue(generatedSource.contains("final boolean serdesSchemaOfPoint = serdesRegisterSchema(Point, "));
+        Assert.assertTrue(generatedSource.contains(
+                "final boolean serdesSchemaOfStudent = serdesRegisterSchema(Student, "));
+        Assert.assertTrue(generatedSource.indexOf("serdesSchemaOfPoint")
+                < generatedSource.indexOf("serdesSchemaOfStudent"));
+    }
+
+    @Test
+    public void testPrecompiledSchemaRoundTrip() throws IOException, InterruptedException {
+        Package currentPackage = generateSources("sample_package_1");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors(), getMessages(compilation.diagnosticResult()));
+
+        Path executable = Files.createTempDirectory("serdes-compiler-plugin-test").resolve("sample_package_1.jar");
+        JBallerinaBackend backend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        EmitResult emitResult = backend.emit(JBallerinaBackend.OutputType.EXEC, executable);
+        Assert.assertTrue(emitResult.successful(), getMessages(emitResult.diagnostics()));
+
+        // The sample returns an error if a value does not round trip or a schema is not registered at compile time
+        Process process = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", executable.toString()).redirectErrorStream(true).start();
+        String output;
+        try (InputStream outputStream = process.getInputStream()) {
+            output = new String(outputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Assert.assertEquals(process.waitFor(), 0, output);
+        Assert.assertEquals(output.trim(), "ok");
+    }
+
+    private static Package generateSources(String packageName) {
+        Environment environment = EnvironmentBuilder.getBuilder().setBallerinaHome(DISTRIBUTION_PATH).build();
+        BuildProject project = BuildProject.load(ProjectEnvironmentBuilder.getBuilder(environment),
+                RESOURCE_DIRECTORY.resolve(packageName));
+        DiagnosticResult diagnosticResult = project.currentPackage().runCodeGenAndModifyPlugins();
+        Assert.assertFalse(diagnosticResult.hasErrors(), getMessages(diagnosticResult));
+        // Data types of the samples are supported, so no schema is left to be generated at runtime
+        Assert.assertEquals(diagnosticResult.warningCount(), 0, getMessages(diagnosticResult));
+        return project.currentPackage();
+    }
+
+    private static String getGeneratedSource(Module module) {
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().startsWith(GENERATED_SOURCE_PREFIX)) {
+                return document.textDocument().toString();
+            }
+        }
+        Assert.fail("Schema registrations are not generated for module " + module.moduleName());
+        return null;
+    }
+
+    private static String getMessages(DiagnosticResult diagnosticResult) {
+        List<String> messages = new ArrayList<>();
+        diagnosticResult.diagnostics().forEach(diagnostic -> messages.add(diagnostic.toString()));
+        return String.join("\n", messages);
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+import ballerina/serdes;
+
+type Student record {
+    int id;
+    string name;
+    decimal[] marks;
+    map<string> tags;
+};
+
+type Point [int, float];
+
+public function main() returns error? {
+    Student student = {id: 1, name: "Jane", marks: [72.5, 81.25], tags: {year: "3"}};
+    serdes:Proto3Schema studentSchema = check new (Student);
+    Student decodedStudent = check studentSchema.deserialize(check studentSchema.serialize(student));
+    if decodedStudent != student {
+        return error("Student is not decoded with the precompiled schema");
+    }
+
+    Point point = [3, 4.5];
+    serdes:Proto3Schema pointSchema = check new (Point);
+    Point decodedPoint = check pointSchema.deserialize(check pointSchema.serialize(point));
+    if decodedPoint != point {
+        return error("Point is not decoded with the precompiled schema");
+    }
+
+    // Schemas registered by the generated source can not be registered again
+    if registerSchema(Student, [], "") || registerSchema(Point, [], "") {
+        return error("Schemas are not registered by the generated source");
+    }
+    io:println("ok");
+}
+
+isolated function registerSchema(typedesc<anydata> T, byte[] fileDescriptor, string proto3) returns boolean =
+@java:Method {
+    'class: "io.ballerina.stdlib.serdes.PrecompiledSchemas"
+} external;
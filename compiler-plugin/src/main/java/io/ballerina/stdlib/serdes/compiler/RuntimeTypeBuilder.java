@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes.compiler;
+
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.MapTypeSymbol;
+import io.ballerina.compiler.api.symbols.ModuleID;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.TableTypeSymbol;
+import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link RuntimeTypeBuilder} class creates the runtime type of a compile time data type, so that the schema of the
+ * data type is generated by the same schema generator used at runtime.
+ * <p>
+ * Only the data types whose schema does not depend on details lost in the conversion are supported, null is
+ * returned for the other data types and their schemas are generated at runtime.
+ */
+public class RuntimeTypeBuilder {
+    private static final int TYPE_FLAGS = TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE);
+    private static final String VERSION_SEPARATOR = ".";
+
+    // Named types that are being built, used to leave out recursive types
+    private final Set<String> typesInProgress = new HashSet<>();
+
+    /**
+     * Creates the runtime type of a type definition.
+     *
+     * @param typeName       Name of the type definition.
+     * @param moduleId       Module of the type definition.
+     * @param typeDescriptor Type descriptor of the type definition.
+     * @return Runtime type of the type definition, null if the type is not supported.
+     */
+    public Type build(String typeName, ModuleID moduleId, TypeSymbol typeDescriptor) {
+        TypeSymbol referredType = getReferredType(typeDescriptor);
+        String qualifiedName = moduleId.orgName() + "/" + moduleId.moduleName() + ":" + typeName;
+        if (!typesInProgress.add(qualifiedName)) {
+            return null;
+        }
+        try {
+            switch (referredType.typeKind()) {
+                case RECORD:
+                    return buildRecordType(typeName, createModule(moduleId), (RecordTypeSymbol) referredType);
+                case UNION:
+                    List<Type> memberTypes = buildMemberTypes(((UnionTypeSymbol) referredType)
+                            .memberTypeDescriptors());
+                    return memberTypes == null ? null : TypeCreator.createUnionType(memberTypes, typeName,
+                            createModule(moduleId), TYPE_FLAGS, false, SymbolFlags.PUBLIC);
+                default:
+                    return build(referredType);
+            }
+        } finally {
+            typesInProgress.remove(qualifiedName);
+        }
+    }
+
+    private Type build(TypeSymbol typeSymbol) {
+        switch (typeSymbol.typeKind()) {
+            case INT:
+                return PredefinedTypes.TYPE_INT;
+            case BYTE:
+                return PredefinedTypes.TYPE_BYTE;
+            case FLOAT:
+                return PredefinedTypes.TYPE_FLOAT;
+            case DECIMAL:
+                return PredefinedTypes.TYPE_DECIMAL;
+            case STRING:
+                return PredefinedTypes.TYPE_STRING;
+            case BOOLEAN:
+                return PredefinedTypes.TYPE_BOOLEAN;
+            case NIL:
+                return PredefinedTypes.TYPE_NULL;
+            case ARRAY:
+                return buildArrayType((ArrayTypeSymbol) typeSymbol);
+            case MAP:
+                Type constraint = build(((MapTypeSymbol) typeSymbol).typeParam());
+                return constraint == null ? null : TypeCreator.createMapType(constraint);
+            case TABLE:
+                Type rowType = build(((TableTypeSymbol) typeSymbol).rowTypeParameter());
+                return rowType == null ? null : TypeCreator.createTableType(rowType, false);
+            case TUPLE:
+                TupleTypeSymbol tupleType = (TupleTypeSymbol) typeSymbol;
+                if (tupleType.restTypeDescriptor().isPresent()) {
+                    return null;
+                }
+                List<Type> tupleTypes = buildMemberTypes(tupleType.memberTypeDescriptors());
+                return tupleTypes == null ? null : TypeCreator.createTupleType(tupleTypes);
+            case UNION:
+                List<Type> memberTypes = buildMemberTypes(((UnionTypeSymbol) typeSymbol).memberTypeDescriptors());
+                return memberTypes == null ? null : TypeCreator.createUnionType(memberTypes);
+            case TYPE_REFERENCE:
+                return buildReferencedType((TypeReferenceTypeSymbol) typeSymbol);
+            default:
+                // Anonymous records, singletons, int and string subtypes and intersections are named or
+                // represented differently at runtime
+                return null;
+        }
+    }
+
+    private Type buildReferencedType(TypeReferenceTypeSymbol typeReference) {
+        Optional<String> typeName = typeReference.definition().getName();
+        TypeSymbol referredType = getReferredType(typeReference);
+        boolean isNamedType = referredType.typeKind() == TypeDescKind.RECORD
+                || referredType.typeKind() == TypeDescKind.UNION;
+        if (!isNamedType) {
+            // Schemas of the other referred types do not use the type name
+            return build(referredType);
+        }
+        if (typeName.isEmpty() || typeReference.definition().getModule().isEmpty()) {
+            return null;
+        }
+        return build(typeName.get(), typeReference.definition().getModule().get().id(), referredType);
+    }
+
+    private Type buildArrayType(ArrayTypeSymbol arrayType) {
+        Type elementType = build(arrayType.memberTypeDescriptor());
+        if (elementType == null) {
+            return null;
+        }
+        Optional<Integer> size = arrayType.size();
+        return size.isPresent() ? TypeCreator.createArrayType(elementType, size.get())
+                : TypeCreator.createArrayType(elementType);
+    }
+
+    private Type buildRecordType(String typeName, Module module, RecordTypeSymbol recordType) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Map.Entry<String, RecordFieldSymbol> recordField : recordType.fieldDescriptors().entrySet()) {
+            Type fieldType = build(recordField.getValue().typeDescriptor());
+            if (fieldType == null) {
+                return null;
+            }
+            long fieldFlags = SymbolFlags.PUBLIC
+                    | (recordField.getValue().isOptional() ? SymbolFlags.OPTIONAL : SymbolFlags.REQUIRED);
+            fields.put(recordField.getKey(), TypeCreator.createField(fieldType, recordField.getKey(), fieldFlags));
+        }
+        // Rest fields are not part of the schema
+        boolean isSealed = recordType.restTypeDescriptor().isEmpty();
+        Type restFieldType = isSealed ? PredefinedTypes.TYPE_NEVER : PredefinedTypes.TYPE_ANYDATA;
+        return TypeCreator.createRecordType(typeName, module, SymbolFlags.PUBLIC, fields, restFieldType, isSealed,
+                TYPE_FLAGS);
+    }
+
+    private List<Type> buildMemberTypes(List<TypeSymbol> memberTypeSymbols) {
+        List<Type> memberTypes = new ArrayList<>(memberTypeSymbols.size());
+        for (TypeSymbol memberTypeSymbol : memberTypeSymbols) {
+            Type memberType = build(memberTypeSymbol);
+            if (memberType == null) {
+                return null;
+            }
+            memberTypes.add(memberType);
+        }
+        return memberTypes;
+    }
+
+    private static TypeSymbol getReferredType(TypeSymbol typeSymbol) {
+        TypeSymbol referredType = typeSymbol;
+        while (referredType.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+            referredType = ((TypeReferenceTypeSymbol) referredType).typeDescriptor();
+        }
+        return referredType;
+    }
+
+    // Runtime modules are identified by the major version of the package
+    private static Module createModule(ModuleID moduleId) {
+        String version = moduleId.version();
+        int separatorIndex = version.indexOf(VERSION_SEPARATOR);
+        String majorVersion = separatorIndex < 0 ? version : version.substring(0, separatorIndex);
+        return new Module(moduleId.orgName(), moduleId.moduleName(), majorVersion);
+    }
+}
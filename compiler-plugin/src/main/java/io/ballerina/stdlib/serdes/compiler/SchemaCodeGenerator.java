@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes.compiler;
+
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.plugins.CodeGenerator;
+import io.ballerina.projects.plugins.CodeGeneratorContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SchemaCodeGenerator} class finds the data types of the {@code serdes:Proto3Schema} objects created in a
+ * package and generates a source file registering the schemas of those data types in each module.
+ */
+public class SchemaCodeGenerator extends CodeGenerator {
+
+    // Data types of the schema objects found in each module, by type name
+    private final Map<ModuleId, Map<String, TypeDefinitionSymbol>> schemaTypes = new ConcurrentHashMap<>();
+
+    @Override
+    public void init(CodeGeneratorContext generatorContext) {
+        generatorContext.addSyntaxNodeAnalysisTask(new SchemaTypeAnalysisTask(schemaTypes),
+                List.of(SyntaxKind.IMPLICIT_NEW_EXPRESSION, SyntaxKind.EXPLICIT_NEW_EXPRESSION));
+        generatorContext.addSourceGeneratorTask(new SchemaRegistrationGeneratorTask(schemaTypes));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes.compiler;
+
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.plugins.GeneratorTask;
+import io.ballerina.projects.plugins.SourceGeneratorContext;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.serdes.GeneratedSchema;
+import io.ballerina.stdlib.serdes.SchemaGenerator;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * {@link SchemaRegistrationGeneratorTask} class generates the schemas of the collected data types and adds a source
+ * file registering them to each module. The serialized file descriptors are embedded as byte array literals, and are
+ * built with {@code FileDescriptor.buildFrom} when a schema object is created for the data type.
+ * <p>
+ * The generated source declares its own external function bound to {@code PrecompiledSchemas.registerSchema}, so the
+ * serdes module does not expose a function registering schemas to the other modules.
+ */
+public class SchemaRegistrationGeneratorTask implements GeneratorTask<SourceGeneratorContext> {
+    private static final String SOURCE_FILE_PREFIX = "serdes_schemas";
+    private static final String REGISTRATION_VARIABLE_PREFIX = "serdesSchemaOf";
+    private static final String REGISTRATION_FUNCTION = "serdesRegisterSchema";
+    private static final DiagnosticInfo SCHEMA_GENERATION_FAILURE = new DiagnosticInfo("SERDES_101",
+            "schema of ''{0}'' is not generated at compile time: {1}", DiagnosticSeverity.WARNING);
+    private static final Pattern UNQUOTED_IDENTIFIER = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Map<ModuleId, Map<String, TypeDefinitionSymbol>> schemaTypes;
+
+    public SchemaRegistrationGeneratorTask(Map<ModuleId, Map<String, TypeDefinitionSymbol>> schemaTypes) {
+        this.schemaTypes = schemaTypes;
+    }
+
+    @Override
+    public void generate(SourceGeneratorContext context) {
+        for (Map.Entry<ModuleId, Map<String, TypeDefinitionSymbol>> moduleSchemaTypes : schemaTypes.entrySet()) {
+            String source = generateSource(moduleSchemaTypes.getValue(), context);
+            if (source != null) {
+                context.addSourceFile(TextDocuments.from(source), SOURCE_FILE_PREFIX, moduleSchemaTypes.getKey());
+            }
+        }
+        schemaTypes.clear();
+    }
+
+    private static String generateSource(Map<String, TypeDefinitionSymbol> typeDefinitions,
+                                         SourceGeneratorContext context) {
+        StringBuilder registrations = new StringBuilder();
+        RuntimeTypeBuilder runtimeTypeBuilder = new RuntimeTypeBuilder();
+        // Sorted by type name so that the generated source does not change between builds
+        for (Map.Entry<String, TypeDefinitionSymbol> typeDefinition : new TreeMap<>(typeDefinitions).entrySet()) {
+            String typeName = typeDefinition.getKey();
+            Optional<ModuleSymbol> module = typeDefinition.getValue().getModule();
+            if (!UNQUOTED_IDENTIFIER.matcher(typeName).matches() || module.isEmpty()) {
+                continue;
+            }
+            Type runtimeType = runtimeTypeBuilder.build(typeName, module.get().id(),
+                    typeDefinition.getValue().typeDescriptor());
+            GeneratedSchema schema = runtimeType == null ? null
+                    : generateSchema(runtimeType, typeDefinition.getValue(), context);
+            if (schema == null) {
+                continue;
+            }
+            byte[] fileDescriptor = schema.getMessageDescriptor().getFile().toProto().toByteArray();
+            registrations.append("\nfinal boolean ").append(REGISTRATION_VARIABLE_PREFIX).append(typeName)
+                    .append(" = ").append(REGISTRATION_FUNCTION).append("(").append(typeName).append(", ")
+                    .append(toByteArrayLiteral(fileDescriptor)).append(",\n        ")
+                    .append(toStringLiteral(schema.getProto3())).append(");\n");
+        }
+        if (registrations.length() == 0) {
+            return null;
+        }
+        return "// Generated by the serdes compiler plugin, do not edit.\n\nimport ballerina/jballerina.java;\n"
+                + registrations + "\nisolated function " + REGISTRATION_FUNCTION
+                + "(typedesc<anydata> T, byte[] fileDescriptor, string proto3) returns boolean = @java:Method {\n"
+                + "    'class: \"io.ballerina.stdlib.serdes.PrecompiledSchemas\",\n"
+                + "    name: \"registerSchema\"\n} external;\n";
+    }
+
+    // The schema is generated at runtime instead, where the same failure is returned when the schema object is created
+    private static GeneratedSchema generateSchema(Type runtimeType, TypeDefinitionSymbol typeDefinition,
+                                                  SourceGeneratorContext context) {
+        try {
+            return SchemaGenerator.createSchema(runtimeType);
+        } catch (DescriptorValidationException | RuntimeException e) {
+            typeDefinition.getLocation().ifPresent(location -> context.reportDiagnostic(
+                    DiagnosticFactory.createDiagnostic(SCHEMA_GENERATION_FAILURE, location,
+                            typeDefinition.getName().orElse(""), getFailureMessage(e))));
+            return null;
+        }
+    }
+
+    // Unsupported data types are reported with ballerina errors
+    private static String getFailureMessage(Exception e) {
+        if (e instanceof BError) {
+            return ((BError) e).getErrorMessage().getValue();
+        }
+        return e.getMessage();
+    }
+
+    private static String toByteArrayLiteral(byte[] bytes) {
+        StringBuilder literal = new StringBuilder(bytes.length * 2 + 9).append("base16 `");
+        for (byte b : bytes) {
+            literal.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+        return literal.append('`').toString();
+    }
+
+    private static String toStringLiteral(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 16).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
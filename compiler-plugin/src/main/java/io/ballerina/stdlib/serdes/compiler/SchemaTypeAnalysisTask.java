@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes.compiler;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ParenthesizedArgList;
+import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SchemaTypeAnalysisTask} class collects the data types of the {@code serdes:Proto3Schema} objects created
+ * with a type defined in the same module, e.g. {@code new serdes:Proto3Schema(Student)}.
+ */
+public class SchemaTypeAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
+    private static final String SERDES_ORG = "ballerina";
+    private static final String SERDES_MODULE = "serdes";
+    private static final String PROTO3_SCHEMA = "Proto3Schema";
+
+    private final Map<ModuleId, Map<String, TypeDefinitionSymbol>> schemaTypes;
+
+    public SchemaTypeAnalysisTask(Map<ModuleId, Map<String, TypeDefinitionSymbol>> schemaTypes) {
+        this.schemaTypes = schemaTypes;
+    }
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext context) {
+        Optional<ParenthesizedArgList> argList = getArgList(context.node());
+        if (argList.isEmpty()) {
+            return;
+        }
+        SeparatedNodeList<FunctionArgumentNode> arguments = argList.get().arguments();
+        if (arguments.size() != 1 || arguments.get(0).kind() != SyntaxKind.POSITIONAL_ARG) {
+            return;
+        }
+
+        SemanticModel semanticModel = context.semanticModel();
+        Optional<TypeSymbol> objectType = semanticModel.typeOf(context.node());
+        if (objectType.isEmpty() || !isProto3Schema(objectType.get())) {
+            return;
+        }
+
+        // Only data types given as a reference to a type definition are known at compile time
+        Node dataType = ((PositionalArgumentNode) arguments.get(0)).expression();
+        Optional<Symbol> dataTypeSymbol = semanticModel.symbol(dataType);
+        if (dataTypeSymbol.isEmpty() || dataTypeSymbol.get().kind() != SymbolKind.TYPE_DEFINITION) {
+            return;
+        }
+        TypeDefinitionSymbol typeDefinition = (TypeDefinitionSymbol) dataTypeSymbol.get();
+        if (typeDefinition.getName().isEmpty() || !isDefinedInModule(typeDefinition, context)) {
+            return;
+        }
+        schemaTypes.computeIfAbsent(context.moduleId(), moduleId -> new ConcurrentHashMap<>())
+                .putIfAbsent(typeDefinition.getName().get(), typeDefinition);
+    }
+
+    private static Optional<ParenthesizedArgList> getArgList(Node newExpression) {
+        if (newExpression.kind() == SyntaxKind.IMPLICIT_NEW_EXPRESSION) {
+            return ((ImplicitNewExpressionNode) newExpression).parenthesizedArgList();
+        }
+        return Optional.of(((ExplicitNewExpressionNode) newExpression).parenthesizedArgList());
+    }
+
+    // Type of the new expression is a union of the object type and the error type when the init method may fail
+    private static boolean isProto3Schema(TypeSymbol typeSymbol) {
+        if (typeSymbol.typeKind() == TypeDescKind.UNION) {
+            return ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors().stream()
+                    .anyMatch(SchemaTypeAnalysisTask::isProto3Schema);
+        }
+        Optional<ModuleSymbol> module = typeSymbol.getModule();
+        return typeSymbol.getName().filter(PROTO3_SCHEMA::equals).isPresent() && module.isPresent()
+                && SERDES_ORG.equals(module.get().id().orgName())
+                && SERDES_MODULE.equals(module.get().id().moduleName());
+    }
+
+    // Generated registrations refer to the data type by its name, so the type must be visible in the module
+    private static boolean isDefinedInModule(TypeDefinitionSymbol typeDefinition,
+                                             SyntaxNodeAnalysisContext context) {
+        Optional<ModuleSymbol> module = typeDefinition.getModule();
+        if (module.isEmpty()) {
+            return false;
+        }
+        String moduleName = context.currentPackage().module(context.moduleId()).moduleName().toString();
+        String packageOrg = context.currentPackage().packageOrg().value();
+        return packageOrg.equals(module.get().id().orgName()) && moduleName.equals(module.get().id().moduleName());
+    }
+}
@@ -110,17 +110,12 @@ public class ArrayMessageType extends MessageType {
 
     @Override
     public void setDecimalField(DecimalType decimalType) {
-        ProtobufMessageBuilder decimalMessageDefinition = generateDecimalMessageDefinition();
-        ProtobufMessageBuilder messageBuilder = getMessageBuilder();
-        messageBuilder.addNestedMessage(decimalMessageDefinition);
-        String protoType = DataTypeMapper.mapBallerinaTypeToProtoType(decimalType.getTag());
-        addMessageFieldInMessageBuilder(REPEATED_LABEL, protoType);
+        addMessageFieldInMessageBuilder(REPEATED_LABEL, getDecimalMessageType(getMessageBuilder()));
     }
 
     @Override
     public void setStringField(StringType stringType) {
-        String protoType = DataTypeMapper.mapBallerinaTypeToProtoType(stringType.getTag());
-        addMessageFieldInMessageBuilder(REPEATED_LABEL, protoType);
+        addMessageFieldInMessageBuilder(REPEATED_LABEL, getStringProtoType());
     }
 
     @Override
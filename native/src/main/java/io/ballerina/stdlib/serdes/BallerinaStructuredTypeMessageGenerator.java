@@ -39,6 +39,7 @@ import io.ballerina.stdlib.serdes.protobuf.ProtobufMessageBuilder;
 import java.util.List;
 import java.util.Map;
 
+import static io.ballerina.stdlib.serdes.Constants.DECIMAL_VALUE;
 import static io.ballerina.stdlib.serdes.Constants.UNSUPPORTED_DATA_TYPE;
 import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
 import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
@@ -49,8 +50,15 @@ import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
  */
 public class BallerinaStructuredTypeMessageGenerator {
     private MessageType messageType;
+    // A top level message named DecimalValue would clash with the shared DecimalValue message of the file
+    private final boolean decimalMessageShared;
+    private boolean decimalMessageUsed = false;
+    private final SchemaOptions schemaOptions;
 
-    public BallerinaStructuredTypeMessageGenerator(Type type, ProtobufMessageBuilder messageBuilder) {
+    public BallerinaStructuredTypeMessageGenerator(Type type, ProtobufMessageBuilder messageBuilder,
+                                                   SchemaOptions schemaOptions) {
+        this.schemaOptions = schemaOptions;
+        decimalMessageShared = !DECIMAL_VALUE.equals(messageBuilder.getName());
         switch (type.getTag()) {
             case TypeTags.RECORD_TYPE_TAG:
                 setMessageType(new RecordMessageType(type, messageBuilder, this));
@@ -68,7 +76,7 @@ public class BallerinaStructuredTypeMessageGenerator {
                 setMessageType(new MapMessageType(type, messageBuilder, this));
                 break;
             case TypeTags.TABLE_TAG:
-                setMessageType(new TableMessageType(type, messageBuilder, this));
+                setMessageType(TableMessageType.create((TableType) type, messageBuilder, this));
                 break;
             default:
                 throw createSerdesError(UNSUPPORTED_DATA_TYPE + type.getName(), SERDES_ERROR);
@@ -83,6 +91,22 @@ public class BallerinaStructuredTypeMessageGenerator {
         this.messageType = messageType;
     }
 
+    public SchemaOptions getSchemaOptions() {
+        return schemaOptions;
+    }
+
+    public boolean isDecimalMessageShared() {
+        return decimalMessageShared;
+    }
+
+    public boolean isDecimalMessageUsed() {
+        return decimalMessageUsed;
+    }
+
+    public void setDecimalMessageUsed() {
+        decimalMessageUsed = true;
+    }
+
     public ProtobufMessageBuilder generateMessageDefinition() {
         List<Map.Entry<String, Type>> fieldNamesAndTypes = messageType.getFieldNameAndBallerinaTypeEntryList();
 
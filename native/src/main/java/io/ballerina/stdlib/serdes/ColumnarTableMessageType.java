@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.stdlib.serdes.protobuf.ProtobufMessageBuilder;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.ballerina.stdlib.serdes.Constants.TABLE_ENTRY;
+
+/**
+ * {@link ColumnarTableMessageType} class generate protobuf message definition for ballerina tables of records in the
+ * columnar layout. The message has the fields of the record message, each field holds the values of the record field
+ * in all the rows, in the same way as a record field of an array type.
+ */
+public class ColumnarTableMessageType extends RecordMessageType {
+
+    public ColumnarTableMessageType(Type ballerinaType, ProtobufMessageBuilder messageBuilder,
+                                    BallerinaStructuredTypeMessageGenerator messageGenerator) {
+        super(ballerinaType, messageBuilder, messageGenerator);
+    }
+
+    /**
+     * Checks whether a table is encoded in the columnar layout. Rows with optional fields can not be rebuilt from the
+     * columns, so those tables keep the row layout.
+     *
+     * @param tableType     Table type of the message.
+     * @param schemaOptions Options of the generated schema.
+     * @return True if the table is encoded in the columnar layout.
+     */
+    public static boolean isColumnarTable(TableType tableType, SchemaOptions schemaOptions) {
+        if (!schemaOptions.isColumnarTables()) {
+            return false;
+        }
+        Type rowType = TypeUtils.getReferredType(tableType.getConstrainedType());
+        if (rowType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        Map<String, Field> rowFields = ((RecordType) rowType).getFields();
+        // A column named tableEntry would make the message look like a table in the row layout
+        if (rowFields.isEmpty() || rowFields.containsKey(TABLE_ENTRY)) {
+            return false;
+        }
+        return rowFields.values().stream()
+                .noneMatch(field -> SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL));
+    }
+
+    @Override
+    public List<Map.Entry<String, Type>> getFieldNameAndBallerinaTypeEntryList() {
+        TableType tableType = (TableType) getBallerinaType();
+        RecordType rowType = (RecordType) TypeUtils.getReferredType(tableType.getConstrainedType());
+        return rowType.getFields().values().stream().sorted(Comparator.comparing(Field::getFieldName))
+                .map(field -> Map.entry(field.getFieldName(), getColumnType(field)))
+                .collect(Collectors.toList());
+    }
+
+    // Columns are generated as record fields of arrays of the row field types
+    private static Type getColumnType(Field rowField) {
+        return TypeCreator.createArrayType(TypeUtils.getReferredType(rowField.getFieldType()));
+    }
+}
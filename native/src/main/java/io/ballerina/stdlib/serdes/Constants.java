@@ -36,6 +36,8 @@ public final class Constants {
 
     // Constants related to protobuf schema
     public static final String SCHEMA_NAME = "schema";
+    public static final String SERIALIZATION_PLAN = "serializationPlan";
+    public static final String DESERIALIZATION_PLAN = "deserializationPlan";
     public static final String UNION_BUILDER_NAME = "UnionBuilder";
     public static final String UNION_FIELD_NAME = "unionField";
     public static final String ARRAY_BUILDER_NAME = "ArrayBuilder";
@@ -46,6 +48,7 @@ public final class Constants {
     public static final String VALUE_SUFFIX = "Value";
     public static final String SCALE = "scale";
     public static final String PRECISION = "precision";
+    public static final String UNSCALED_VALUE = "unscaledValue";
     public static final String VALUE = "value";
     public static final String SYNTAX = "syntax";
     public static final String MAP_BUILDER = "MapBuilder";
@@ -58,6 +61,12 @@ public final class Constants {
     public static final String TUPLE_BUILDER = "TupleBuilder";
     public static final String TUPLE_FIELD_NAME = "element";
     public static final String RECORD_BUILDER = "RecordBuilder";
+    public static final String STRING_ENUM = "StringEnum";
+    // Enum value names created for string values never start with an underscore followed by a letter other than a-f
+    public static final String ENUM_UNSPECIFIED = "_UNSPECIFIED";
+    // Field of the top level message holding the distinct string values of schemas with string dictionaries
+    public static final String STRING_DICTIONARY = "stringDictionary";
+    public static final String STRING_DICTIONARY_CONFLICT = "Field name is reserved for the string dictionary: ";
 
     public static final String SEPARATOR = "_";
     public static final String TYPE_SEPARATOR = "___";
@@ -70,6 +79,8 @@ public final class Constants {
     public static final String REPEATED_LABEL = "repeated";
     public static final String BYTES = "bytes";
     public static final String UINT32 = "uint32";
+    public static final String SINT32 = "sint32";
+    public static final String SINT64 = "sint64";
     public static final String BOOL = "bool";
 
     // Constants related to error messages
@@ -77,7 +88,16 @@ public final class Constants {
     public static final String DESERIALIZATION_ERROR_MESSAGE = "Failed to Deserialize data: ";
     public static final String SERIALIZATION_ERROR_MESSAGE = "Failed to Serialize data: ";
     public static final String TYPE_MISMATCH_ERROR_MESSAGE = "Type mismatch";
+    public static final String INVALID_OFFSET_ERROR_MESSAGE = "Invalid offset of the target array: ";
+    public static final String READ_ONLY_TARGET_ERROR_MESSAGE = "Target array is read only";
+    public static final String INSUFFICIENT_SPACE_ERROR_MESSAGE =
+            "Not enough space in the target array, required size: ";
     public static final String SCHEMA_GENERATION_FAILURE = "Failed to generate schema: ";
+    public static final String PRECOMPILED_SCHEMA_LOAD_FAILURE = "Failed to load precompiled schema: ";
+    public static final String DESCRIPTOR_SET_LOAD_FAILURE = "Failed to load descriptor set: ";
+    public static final String MESSAGE_NOT_FOUND = "message not found: ";
+    public static final String MISSING_DEPENDENCY = "dependency not found: ";
+    public static final String INCOMPATIBLE_SCHEMA = "Descriptor set is not compatible with the data type: ";
     public static final String FAILED_WRITE_FILE = "Failed to write proto file: ";
     public static final String MAP_MEMBER_NOT_YET_SUPPORTED = "Serdes not yet support map type as union member";
     public static final String TABLE_MEMBER_NOT_YET_SUPPORTED = "Serdes not yet support table type as union member";
@@ -85,5 +105,31 @@ public final class Constants {
             + " as union member";
     public static final String ARRAY_OF_TABLE_AS_UNION_MEMBER_NOT_YET_SUPPORTED = "Serdes not yet support array of"
             + " tables as union member";
+    // Constants related to schema options
+    public static final BString COMPACT_DECIMALS = StringUtils.fromString("compactDecimals");
+    public static final BString COLUMNAR_TABLES = StringUtils.fromString("columnarTables");
+    public static final BString STRING_DICTIONARY_OPTION = StringUtils.fromString("stringDictionary");
+
     public static final BString BALLERINA_TYPEDESC_ATTRIBUTE_NAME = StringUtils.fromString("dataType");
+
+    // Constants related to length delimited messages
+    public static final String DELIMITED_MESSAGE_ITERATOR = "DelimitedMessageIterator";
+    public static final String DELIMITED_MESSAGE_BUFFER = "delimitedMessageBuffer";
+
+    // Constants related to incremental deserialization
+    public static final String ELEMENT_ITERATOR = "ElementIterator";
+    public static final String REPEATED_FIELD_READER = "repeatedFieldReader";
+    public static final String ELEMENT_TYPE = "elementType";
+    public static final String INCREMENTAL_DESERIALIZATION_NOT_SUPPORTED = "Elements can only be deserialized "
+            + "incrementally from arrays and row layout tables without string dictionaries: ";
+
+    // Constants related to record views
+    public static final String RECORD_VIEW = "RecordView";
+    public static final String RECORD_VIEW_DATA = "recordView";
+    public static final String RECORD_VIEW_NOT_SUPPORTED = "Record views can only be created for record types: ";
+    public static final String UNDEFINED_RECORD_FIELD = "Field is not defined in the record type: ";
+
+    // Constants related to field extraction
+    public static final String UNDEFINED_FIELD_PATH = "Field path is not defined in the record type: ";
+    public static final String NOT_A_RECORD_FIELD = "Field path does not refer to a field of a record: ";
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.ballerina.runtime.api.types.Type;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * {@link DelimitedMessageBuffer} class holds length delimited messages, encoded values prefixed with their lengths as
+ * varints. Messages are appended to the buffer while serializing a stream of values, and the bytes read from a
+ * channel are appended to the buffer while deserializing, so the messages are decoded once all of their bytes are
+ * buffered.
+ */
+public final class DelimitedMessageBuffer {
+    // Lengths of messages are written as varint32 values, which take at most five bytes
+    private static final int MAX_LENGTH_PREFIX_SIZE = 5;
+    private static final byte[] EMPTY_BUFFER = new byte[0];
+
+    private byte[] buffer;
+    // Buffered bytes are the bytes from the start up to the end of the buffer array
+    private int start = 0;
+    private int end = 0;
+    // Position and length of the encoded value of the next message, the offset is negative until the message is found
+    private int messageOffset = -1;
+    private int messageLength = 0;
+
+    public DelimitedMessageBuffer(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Appends a value to the buffer as a length delimited message.
+     *
+     * @param anydata           Value that is being serialized.
+     * @param serializationPlan Serialization plan of the schema.
+     * @param ballerinaType     Data type of the schema.
+     * @throws IOException if the value can not be written.
+     */
+    public void addMessage(Object anydata, SerializationPlan serializationPlan, Type ballerinaType)
+            throws IOException {
+        ValueWriter.serializeDelimited(anydata, serializationPlan, ballerinaType, this);
+    }
+
+    /**
+     * Appends bytes read from a channel to the buffer.
+     *
+     * @param input  Array which holds the bytes.
+     * @param length Number of bytes from the start of the array.
+     */
+    public void addInput(byte[] input, int length) {
+        System.arraycopy(input, 0, reserve(length), end, length);
+        end += length;
+    }
+
+    /**
+     * Checks whether all the bytes of the next message are buffered.
+     *
+     * @return True if the next message can be read.
+     * @throws IOException if the length of the next message is not a valid length.
+     */
+    public boolean hasMessage() throws IOException {
+        if (messageOffset >= 0) {
+            return true;
+        }
+        // Last byte of a varint is the first byte without the continuation bit
+        int prefixEnd = start;
+        while (prefixEnd < end && (buffer[prefixEnd] & 0x80) != 0) {
+            prefixEnd++;
+            if (prefixEnd - start == MAX_LENGTH_PREFIX_SIZE) {
+                throw new InvalidProtocolBufferException("Length of the delimited message is malformed.");
+            }
+        }
+        if (prefixEnd == end) {
+            return false;
+        }
+        int length = CodedInputStream.newInstance(buffer, start, prefixEnd - start + 1).readRawVarint32();
+        if (length < 0) {
+            throw new InvalidProtocolBufferException("Delimited message claimed to have negative length.");
+        }
+        if (end - prefixEnd - 1 < length) {
+            return false;
+        }
+        messageOffset = prefixEnd + 1;
+        messageLength = length;
+        return true;
+    }
+
+    /**
+     * Decodes the next message of the buffer, the message is found by {@link #hasMessage()}.
+     *
+     * @param deserializationPlan Deserialization plan of the schema.
+     * @return Decoded ballerina value.
+     * @throws IOException if the message is not a valid message of the schema.
+     */
+    public Object readMessage(DeserializationPlan deserializationPlan) throws IOException {
+        if (!hasMessage()) {
+            throw new InvalidProtocolBufferException("Delimited message is not buffered.");
+        }
+        int offset = messageOffset;
+        // Message is consumed even if it can not be decoded, so the next message can still be read
+        start = messageOffset + messageLength;
+        messageOffset = -1;
+        return ValueReader.deserialize(buffer, offset, messageLength, deserializationPlan);
+    }
+
+    /**
+     * Removes the buffered bytes from the buffer.
+     *
+     * @return Buffered bytes.
+     */
+    public byte[] takeBytes() {
+        byte[] bytes;
+        if (start == 0 && end == buffer.length) {
+            // Buffers of single messages are allocated with the exact size of the message
+            bytes = buffer;
+            buffer = EMPTY_BUFFER;
+        } else {
+            bytes = Arrays.copyOfRange(buffer, start, end);
+        }
+        start = 0;
+        end = 0;
+        messageOffset = -1;
+        return bytes;
+    }
+
+    public int size() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    // Returns the buffer array with space for the given number of bytes after the end of the buffered bytes
+    byte[] reserve(int length) {
+        if (buffer.length - end >= length) {
+            return buffer;
+        }
+        int bufferedSize = end - start;
+        if (buffer.length - bufferedSize >= length) {
+            // Consumed bytes at the start make enough space without growing the buffer
+            System.arraycopy(buffer, start, buffer, 0, bufferedSize);
+        } else {
+            byte[] grownBuffer = new byte[Math.max(bufferedSize + length, buffer.length * 2)];
+            System.arraycopy(buffer, start, grownBuffer, 0, bufferedSize);
+            buffer = grownBuffer;
+        }
+        if (messageOffset >= 0) {
+            messageOffset -= start;
+        }
+        start = 0;
+        end = bufferedSize;
+        return buffer;
+    }
+
+    int getEnd() {
+        return end;
+    }
+
+    void addLength(int length) {
+        end += length;
+    }
+}
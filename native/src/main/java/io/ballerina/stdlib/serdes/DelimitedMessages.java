@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.StreamType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.IOException;
+
+import static io.ballerina.stdlib.serdes.Constants.BALLERINA_TYPEDESC_ATTRIBUTE_NAME;
+import static io.ballerina.stdlib.serdes.Constants.DELIMITED_MESSAGE_BUFFER;
+import static io.ballerina.stdlib.serdes.Constants.DELIMITED_MESSAGE_ITERATOR;
+import static io.ballerina.stdlib.serdes.Constants.DESERIALIZATION_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.DESERIALIZATION_PLAN;
+import static io.ballerina.stdlib.serdes.Constants.SERIALIZATION_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.SERIALIZATION_PLAN;
+import static io.ballerina.stdlib.serdes.Constants.TYPE_MISMATCH_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+import static io.ballerina.stdlib.serdes.Utils.getModule;
+
+/**
+ * {@link DelimitedMessages} class writes and reads values as length delimited messages, encoded values prefixed with
+ * their lengths as varints. This is the framing of the {@code writeDelimitedTo} and {@code parseDelimitedFrom}
+ * methods of the protobuf messages, so a channel can hold any number of values.
+ */
+public final class DelimitedMessages {
+
+    private DelimitedMessages() {
+    }
+
+    /**
+     * Creates a stream of the values of the length delimited messages read from a byte channel.
+     *
+     * @param des      Deserializer object.
+     * @param channel  Byte channel from which the messages are read.
+     * @param dataType Data type of the values of the stream.
+     * @return Stream of the decoded values.
+     */
+    @SuppressWarnings("unused")
+    public static Object readDelimited(BObject des, BObject channel, BTypedesc dataType) {
+        BObject iterator = ValueCreator.createObjectValue(getModule(), DELIMITED_MESSAGE_ITERATOR, des, channel,
+                dataType);
+        StreamType streamType = TypeCreator.createStreamType(dataType.getDescribingType(), PredefinedTypes.TYPE_NULL);
+        return ValueCreator.createStreamValue(streamType, iterator);
+    }
+
+    // Methods of the DelimitedMessageBuffer class of the module, which holds a buffer in its native data
+
+    @SuppressWarnings("unused")
+    public static void initBuffer(BObject buffer, long initialCapacity) {
+        buffer.addNativeData(DELIMITED_MESSAGE_BUFFER, new DelimitedMessageBuffer((int) initialCapacity));
+    }
+
+    @SuppressWarnings("unused")
+    public static Object addMessage(BObject buffer, BObject ser, Object anydata) {
+        DelimitedMessageBuffer messageBuffer = getMessageBuffer(buffer);
+        BError error = appendMessage(ser, messageBuffer, anydata);
+        return error != null ? error : (long) messageBuffer.size();
+    }
+
+    @SuppressWarnings("unused")
+    public static BArray takeBytes(BObject buffer) {
+        return ValueCreator.createArrayValue(getMessageBuffer(buffer).takeBytes());
+    }
+
+    @SuppressWarnings("unused")
+    public static void addInput(BObject buffer, BArray input) {
+        // Backing array of the input can be larger than the input
+        getMessageBuffer(buffer).addInput(input.getByteArray(), input.size());
+    }
+
+    @SuppressWarnings("unused")
+    public static Object hasMessage(BObject buffer) {
+        try {
+            return getMessageBuffer(buffer).hasMessage();
+        } catch (IOException e) {
+            return createSerdesError(DESERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static boolean isEmpty(BObject buffer) {
+        return getMessageBuffer(buffer).isEmpty();
+    }
+
+    @SuppressWarnings("unused")
+    public static Object readMessage(BObject buffer, BObject des, BTypedesc dataType) {
+        try {
+            DeserializationPlan deserializationPlan = (DeserializationPlan) des.getNativeData(DESERIALIZATION_PLAN);
+            // Values are checked one by one, as the stream is typed with the expected type instead of the schema type
+            Object value = getMessageBuffer(buffer).readMessage(deserializationPlan);
+            return ValueTypeChecker.requireType(value, dataType.getDescribingType());
+        } catch (BError ballerinaError) {
+            return ballerinaError;
+        } catch (Exception e) {
+            return createSerdesError(DESERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+    }
+
+    private static BError appendMessage(BObject ser, DelimitedMessageBuffer messageBuffer, Object anydata) {
+        BTypedesc bTypedesc = (BTypedesc) ser.get(BALLERINA_TYPEDESC_ATTRIBUTE_NAME);
+        SerializationPlan serializationPlan = (SerializationPlan) ser.getNativeData(SERIALIZATION_PLAN);
+        try {
+            messageBuffer.addMessage(anydata, serializationPlan, bTypedesc.getDescribingType());
+        } catch (BError ballerinaError) {
+            return ballerinaError;
+        } catch (IllegalArgumentException | ClassCastException e) {
+            return createSerdesError(SERIALIZATION_ERROR_MESSAGE + TYPE_MISMATCH_ERROR_MESSAGE, SERDES_ERROR);
+        } catch (IOException e) {
+            return createSerdesError(SERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+        return null;
+    }
+
+    private static DelimitedMessageBuffer getMessageBuffer(BObject buffer) {
+        return (DelimitedMessageBuffer) buffer.getNativeData(DELIMITED_MESSAGE_BUFFER);
+    }
+}
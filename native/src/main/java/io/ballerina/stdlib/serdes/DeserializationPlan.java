@@ -0,0 +1,615 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static io.ballerina.stdlib.serdes.Constants.ARRAY_FIELD_NAME;
+import static io.ballerina.stdlib.serdes.Constants.ATOMIC_FIELD_NAME;
+import static io.ballerina.stdlib.serdes.Constants.KEY_NAME;
+import static io.ballerina.stdlib.serdes.Constants.MAP_FIELD;
+import static io.ballerina.stdlib.serdes.Constants.PRECISION;
+import static io.ballerina.stdlib.serdes.Constants.SCALE;
+import static io.ballerina.stdlib.serdes.Constants.TABLE_ENTRY;
+import static io.ballerina.stdlib.serdes.Constants.UNSCALED_VALUE;
+import static io.ballerina.stdlib.serdes.Constants.VALUE_NAME;
+
+/**
+ * {@link DeserializationPlan} class holds the decoding table of a protobuf message for the ballerina type it is
+ * decoded into. Fields are indexed by field number and carry the ballerina key, the referred type and the decoder to
+ * use, so values can be decoded without looking up fields or types by name.
+ */
+public final class DeserializationPlan {
+    private static final int MAX_PROJECTION_PLANS = 64;
+
+    private final Descriptor messageDescriptor;
+    private final Type ballerinaType;
+    private final int typeTag;
+    private final FieldEntry[] fieldsByNumber;
+    // Fields of the decoded value, the string dictionary is not one of them
+    private final List<FieldDescriptor> valueFields;
+    // Only the top level messages of schemas with string dictionaries have a string dictionary field
+    private final FieldDescriptor stringDictionaryField;
+
+    // Fields with fixed names in the generated messages
+    private FieldEntry atomicField;
+    private FieldEntry arrayField;
+    private FieldEntry mapField;
+    private FieldEntry tableEntryField;
+    private FieldEntry keyField;
+    private FieldEntry valueField;
+    private FieldEntry scaleField;
+    private FieldEntry precisionField;
+    // Only the decimal messages of compact decimal schemas have an unscaled value field
+    private FieldEntry unscaledValueField;
+    // Plans of the record types which the message is projected into, compiled on their first use. Record types can be
+    // created at runtime, so the oldest plan is evicted once the message has too many projections.
+    private final Map<PlanKey, DeserializationPlan> projectionPlans = new ConcurrentHashMap<>();
+    private final Queue<PlanKey> projectionOrder = new ConcurrentLinkedQueue<>();
+    // Field paths of the record message which are resolved on their first use
+    private final Map<String, FieldPath> fieldPaths = new ConcurrentHashMap<>();
+
+    /**
+     * Decoders used for the values of message fields.
+     */
+    public enum Decoder {
+        SCALAR,
+        ARRAY,
+        MESSAGE,
+        UNSUPPORTED
+    }
+
+    private DeserializationPlan(Descriptor messageDescriptor, Type ballerinaType) {
+        this.messageDescriptor = messageDescriptor;
+        this.ballerinaType = ballerinaType;
+        this.typeTag = ballerinaType.getTag();
+        int maxFieldNumber = 0;
+        for (FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
+            maxFieldNumber = Math.max(maxFieldNumber, fieldDescriptor.getNumber());
+        }
+        this.fieldsByNumber = new FieldEntry[maxFieldNumber + 1];
+        this.stringDictionaryField = Utils.getStringDictionaryField(messageDescriptor);
+        this.valueFields = stringDictionaryField == null ? messageDescriptor.getFields()
+                : messageDescriptor.getFields().stream().filter(field -> field != stringDictionaryField)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Compiles the deserialization plan of a message and all the messages nested in it.
+     *
+     * @param messageDescriptor Message descriptor of the schema.
+     * @param referredType      Referred ballerina type of the message.
+     * @return Deserialization plan of the message.
+     */
+    public static DeserializationPlan compile(Descriptor messageDescriptor, Type referredType) {
+        return compile(messageDescriptor, referredType, new HashMap<>());
+    }
+
+    private static DeserializationPlan compile(Descriptor messageDescriptor, Type referredType,
+                                               Map<PlanKey, DeserializationPlan> compiledPlans) {
+        PlanKey planKey = new PlanKey(messageDescriptor, referredType);
+        DeserializationPlan plan = compiledPlans.get(planKey);
+        if (plan != null) {
+            // Recursive types share the plan compiled for the outer message
+            return plan;
+        }
+        plan = new DeserializationPlan(messageDescriptor, referredType);
+        compiledPlans.put(planKey, plan);
+
+        switch (referredType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG: {
+                Map<String, Field> recordFields = ((RecordType) referredType).getFields();
+                for (FieldDescriptor fieldDescriptor : plan.valueFields) {
+                    // Message fields which are not fields of the record type are skipped while decoding, so a record
+                    // type with a subset of the fields is a projection of the message
+                    Field recordField = recordFields.get(fieldDescriptor.getName());
+                    if (recordField != null) {
+                        Type fieldType = TypeUtils.getReferredType(recordField.getFieldType());
+                        plan.addField(createField(fieldDescriptor, fieldType, compiledPlans));
+                    }
+                }
+                break;
+            }
+
+            case TypeTags.TUPLE_TAG: {
+                List<Type> elementTypes = ((TupleType) referredType).getTupleTypes();
+                for (FieldDescriptor fieldDescriptor : plan.valueFields) {
+                    // Tuple elements are encoded as the fields numbered by their position in the tuple
+                    if (fieldDescriptor.getNumber() > elementTypes.size()) {
+                        throw SchemaValidator.createIncompatibleFieldError(fieldDescriptor,
+                                "has no element in a tuple of " + elementTypes.size() + " elements");
+                    }
+                    Type elementType = TypeUtils.getReferredType(elementTypes.get(fieldDescriptor.getNumber() - 1));
+                    plan.addField(createField(fieldDescriptor, elementType, compiledPlans));
+                }
+                break;
+            }
+
+            case TypeTags.MAP_TAG: {
+                Type constrainedType = TypeUtils.getReferredType(((MapType) referredType).getConstrainedType());
+                for (FieldDescriptor fieldDescriptor : plan.valueFields) {
+                    if (fieldDescriptor.getName().equals(MAP_FIELD)) {
+                        DeserializationPlan mapEntryPlan = compileMapEntry(getMessageType(fieldDescriptor),
+                                referredType, constrainedType, compiledPlans);
+                        plan.addField(new FieldEntry(fieldDescriptor, referredType, Decoder.MESSAGE, mapEntryPlan));
+                    }
+                }
+                break;
+            }
+
+            case TypeTags.TABLE_TAG: {
+                Type constrainedType = TypeUtils.getReferredType(((TableType) referredType).getConstrainedType());
+                int constrainedTypeTag = constrainedType.getTag();
+                if (constrainedTypeTag == TypeTags.RECORD_TYPE_TAG
+                        && messageDescriptor.findFieldByName(TABLE_ENTRY) == null) {
+                    compileTableColumns(plan, (RecordType) constrainedType, compiledPlans);
+                    break;
+                }
+                for (FieldDescriptor fieldDescriptor : plan.valueFields) {
+                    if (constrainedTypeTag == TypeTags.RECORD_TYPE_TAG || constrainedTypeTag == TypeTags.MAP_TAG) {
+                        plan.addField(createField(fieldDescriptor, constrainedType, compiledPlans));
+                    } else {
+                        plan.addField(new FieldEntry(fieldDescriptor, constrainedType, Decoder.UNSUPPORTED, null));
+                    }
+                }
+                break;
+            }
+
+            case TypeTags.ARRAY_TAG:
+                for (FieldDescriptor fieldDescriptor : plan.valueFields) {
+                    plan.addField(createField(fieldDescriptor, referredType, compiledPlans));
+                }
+                break;
+
+            case TypeTags.UNION_TAG: {
+                Map<String, Type> memberTypes = getUnionMemberTypes((UnionType) referredType);
+                for (FieldDescriptor fieldDescriptor : plan.valueFields) {
+                    Type memberType = memberTypes.get(fieldDescriptor.getName());
+                    plan.addField(createUnionMemberField(fieldDescriptor, memberType, compiledPlans));
+                }
+                break;
+            }
+
+            default:
+                // Primitive values and decimal values
+                for (FieldDescriptor fieldDescriptor : plan.valueFields) {
+                    plan.addField(new FieldEntry(fieldDescriptor, referredType, Decoder.SCALAR, null));
+                }
+                break;
+        }
+        return plan;
+    }
+
+    // Columns of columnar tables are decoded as record fields of arrays of the row field types
+    private static void compileTableColumns(DeserializationPlan plan, RecordType rowType,
+                                            Map<PlanKey, DeserializationPlan> compiledPlans) {
+        Map<String, Field> rowFields = rowType.getFields();
+        for (FieldDescriptor fieldDescriptor : plan.valueFields) {
+            Field rowField = rowFields.get(fieldDescriptor.getName());
+            if (rowField != null) {
+                Type columnType = TypeCreator.createArrayType(TypeUtils.getReferredType(rowField.getFieldType()));
+                plan.addField(createField(fieldDescriptor, columnType, compiledPlans));
+            }
+        }
+    }
+
+    private static DeserializationPlan compileMapEntry(Descriptor mapEntryDescriptor, Type mapType,
+                                                       Type constrainedType,
+                                                       Map<PlanKey, DeserializationPlan> compiledPlans) {
+        DeserializationPlan plan = new DeserializationPlan(mapEntryDescriptor, mapType);
+        for (FieldDescriptor fieldDescriptor : mapEntryDescriptor.getFields()) {
+            if (fieldDescriptor.getName().equals(KEY_NAME)) {
+                plan.addField(new FieldEntry(fieldDescriptor, null, Decoder.SCALAR, null));
+            } else {
+                plan.addField(createField(fieldDescriptor, constrainedType, compiledPlans));
+            }
+        }
+        return plan;
+    }
+
+    // Referred types of the union members by the names of their message fields, same names as the generated schema
+    private static Map<String, Type> getUnionMemberTypes(UnionType unionType) {
+        Map<String, Type> memberTypes = new HashMap<>();
+        for (Type memberType : unionType.getMemberTypes()) {
+            Map.Entry<String, Type> fieldNameAndReferredType = UnionMessageType.mapMemberToFieldName(memberType);
+            memberTypes.putIfAbsent(fieldNameAndReferredType.getKey(), fieldNameAndReferredType.getValue());
+        }
+        return memberTypes;
+    }
+
+    private static FieldEntry createUnionMemberField(FieldDescriptor fieldDescriptor, Type memberType,
+                                                     Map<PlanKey, DeserializationPlan> compiledPlans) {
+        if (memberType == null) {
+            return createField(fieldDescriptor, null, compiledPlans);
+        }
+        if (memberType.getTag() == TypeTags.NULL_TAG) {
+            return new FieldEntry(fieldDescriptor, memberType, Decoder.SCALAR, null);
+        }
+        if (memberType.getTag() == TypeTags.FINITE_TYPE_TAG) {
+            // Enum members are decoded as values of the type of the enum values
+            Type valueType = TypeUtils.getReferredType(TypeUtils.getType(memberType.getEmptyValue()));
+            return createField(fieldDescriptor, valueType, compiledPlans);
+        }
+        return createField(fieldDescriptor, memberType, compiledPlans);
+    }
+
+    private static FieldEntry createField(FieldDescriptor fieldDescriptor, Type fieldType,
+                                          Map<PlanKey, DeserializationPlan> compiledPlans) {
+        if (fieldType == null) {
+            return new FieldEntry(fieldDescriptor, null, Decoder.UNSUPPORTED, null);
+        }
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return new FieldEntry(fieldDescriptor, fieldType, Decoder.SCALAR, null);
+
+            case TypeTags.DECIMAL_TAG:
+                return new FieldEntry(fieldDescriptor, fieldType, Decoder.SCALAR,
+                        compile(getMessageType(fieldDescriptor), fieldType, compiledPlans));
+
+            case TypeTags.ARRAY_TAG: {
+                DeserializationPlan elementPlan = null;
+                if (fieldDescriptor.getType() == FieldDescriptor.Type.MESSAGE) {
+                    Type elementType = TypeUtils.getReferredType(((ArrayType) fieldType).getElementType());
+                    elementPlan = compile(getMessageType(fieldDescriptor), elementType, compiledPlans);
+                }
+                return new FieldEntry(fieldDescriptor, fieldType, Decoder.ARRAY, elementPlan);
+            }
+
+            case TypeTags.UNION_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.TUPLE_TAG:
+                return new FieldEntry(fieldDescriptor, fieldType, Decoder.MESSAGE,
+                        compile(getMessageType(fieldDescriptor), fieldType, compiledPlans));
+
+            default:
+                return new FieldEntry(fieldDescriptor, fieldType, Decoder.UNSUPPORTED, null);
+        }
+    }
+
+    // Ballerina types encoded as messages can only be decoded from the message fields of the schema
+    private static Descriptor getMessageType(FieldDescriptor fieldDescriptor) {
+        if (fieldDescriptor.getType() != FieldDescriptor.Type.MESSAGE) {
+            throw SchemaValidator.createIncompatibleFieldError(fieldDescriptor, "is of type "
+                    + fieldDescriptor.getType().name().toLowerCase(Locale.ENGLISH) + ", not message");
+        }
+        return fieldDescriptor.getMessageType();
+    }
+
+    private void addField(FieldEntry field) {
+        fieldsByNumber[field.getNumber()] = field;
+        switch (field.getFieldDescriptor().getName()) {
+            case ATOMIC_FIELD_NAME:
+                atomicField = field;
+                break;
+            case ARRAY_FIELD_NAME:
+                arrayField = field;
+                break;
+            case MAP_FIELD:
+                mapField = field;
+                break;
+            case TABLE_ENTRY:
+                tableEntryField = field;
+                break;
+            case KEY_NAME:
+                keyField = field;
+                break;
+            case VALUE_NAME:
+                valueField = field;
+                break;
+            case SCALE:
+                scaleField = field;
+                break;
+            case PRECISION:
+                precisionField = field;
+                break;
+            case UNSCALED_VALUE:
+                unscaledValueField = field;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Returns the deserialization plan of a record type which is a projection of the record message of this plan, a
+     * record type with a subset of the fields of the message. The fields of the message which are not in the record
+     * type are skipped without decoding them. Record types which are not projections of the message are rejected with
+     * a ballerina error.
+     *
+     * @param targetType Referred record type of the projection.
+     * @return Deserialization plan of the projection.
+     */
+    public DeserializationPlan getProjectionPlan(Type targetType) {
+        if (targetType == ballerinaType) {
+            return this;
+        }
+        PlanKey key = new PlanKey(messageDescriptor, targetType);
+        DeserializationPlan projectionPlan = projectionPlans.get(key);
+        if (projectionPlan != null) {
+            return projectionPlan;
+        }
+        projectionPlan = compile(messageDescriptor, targetType);
+        SchemaValidator.validateProjection(projectionPlan);
+        DeserializationPlan cachedPlan = projectionPlans.putIfAbsent(key, projectionPlan);
+        if (cachedPlan != null) {
+            return cachedPlan;
+        }
+        projectionOrder.add(key);
+        while (projectionPlans.size() > MAX_PROJECTION_PLANS) {
+            PlanKey eldestKey = projectionOrder.poll();
+            if (eldestKey == null) {
+                break;
+            }
+            projectionPlans.remove(eldestKey);
+        }
+        return projectionPlan;
+    }
+
+    /**
+     * Returns a path of field names separated by dots resolved to the fields of the record message of this plan and
+     * the record messages nested in it.
+     *
+     * @param path Path of the field.
+     * @return Resolved field path.
+     */
+    public FieldPath getFieldPath(String path) {
+        return fieldPaths.computeIfAbsent(path, fieldPath -> FieldPath.resolve(this, fieldPath));
+    }
+
+    public Descriptor getMessageDescriptor() {
+        return messageDescriptor;
+    }
+
+    public FieldDescriptor getStringDictionaryField() {
+        return stringDictionaryField;
+    }
+
+    public Type getBallerinaType() {
+        return ballerinaType;
+    }
+
+    public int getTypeTag() {
+        return typeTag;
+    }
+
+    public int getFieldCount() {
+        return fieldsByNumber.length;
+    }
+
+    public FieldEntry getField(int fieldNumber) {
+        return fieldNumber < fieldsByNumber.length ? fieldsByNumber[fieldNumber] : null;
+    }
+
+    public FieldEntry getAtomicField() {
+        return atomicField;
+    }
+
+    public FieldEntry getArrayField() {
+        return arrayField;
+    }
+
+    public FieldEntry getMapField() {
+        return mapField;
+    }
+
+    public FieldEntry getTableEntryField() {
+        return tableEntryField;
+    }
+
+    public FieldEntry getKeyField() {
+        return keyField;
+    }
+
+    public FieldEntry getValueField() {
+        return valueField;
+    }
+
+    public FieldEntry getScaleField() {
+        return scaleField;
+    }
+
+    public FieldEntry getPrecisionField() {
+        return precisionField;
+    }
+
+    public FieldEntry getUnscaledValueField() {
+        return unscaledValueField;
+    }
+
+    /**
+     * {@link FieldEntry} class holds the decoding properties of a message field.
+     */
+    public static final class FieldEntry {
+        private final FieldDescriptor fieldDescriptor;
+        private final FieldDescriptor.Type fieldType;
+        private final int number;
+        private final int wireType;
+        private final boolean repeated;
+        private final boolean packable;
+        private final BString key;
+        private final Type referredType;
+        private final Decoder decoder;
+        private final DeserializationPlan messagePlan;
+        private final ArrayType arrayType;
+        private final boolean primitiveArray;
+        // String values of enum fields indexed by enum number
+        private final BString[] enumValues;
+
+        private FieldEntry(FieldDescriptor fieldDescriptor, Type referredType, Decoder decoder,
+                           DeserializationPlan messagePlan) {
+            this.fieldDescriptor = fieldDescriptor;
+            this.fieldType = fieldDescriptor.getType();
+            this.number = fieldDescriptor.getNumber();
+            this.wireType = fieldDescriptor.getLiteType().getWireType();
+            this.repeated = fieldDescriptor.isRepeated();
+            this.packable = fieldDescriptor.isPackable();
+            this.key = StringUtils.fromString(fieldDescriptor.getName());
+            this.referredType = referredType;
+            this.decoder = decoder;
+            this.messagePlan = messagePlan;
+            if (decoder == Decoder.ARRAY && fieldType != FieldDescriptor.Type.BYTES) {
+                Type elementType = TypeUtils.getReferredType(((ArrayType) referredType).getElementType());
+                this.arrayType = TypeCreator.createArrayType(elementType);
+                this.primitiveArray = isPrimitiveElementType(elementType.getTag(), fieldType);
+            } else {
+                this.arrayType = null;
+                this.primitiveArray = false;
+            }
+            this.enumValues = fieldType == FieldDescriptor.Type.ENUM ? getEnumValues(fieldDescriptor) : null;
+        }
+
+        private static BString[] getEnumValues(FieldDescriptor fieldDescriptor) {
+            EnumDescriptor enumDescriptor = fieldDescriptor.getEnumType();
+            int maxNumber = 0;
+            for (EnumValueDescriptor enumValue : enumDescriptor.getValues()) {
+                maxNumber = Math.max(maxNumber, enumValue.getNumber());
+            }
+            BString[] enumValues = new BString[maxNumber + 1];
+            for (EnumValueDescriptor enumValue : enumDescriptor.getValues()) {
+                String value = Utils.getEnumStringValue(enumDescriptor.getName(), enumValue.getName());
+                if (value != null && enumValue.getNumber() >= 0) {
+                    enumValues[enumValue.getNumber()] = StringUtils.fromString(value);
+                }
+            }
+            return enumValues;
+        }
+
+        private static boolean isPrimitiveElementType(int elementTypeTag, FieldDescriptor.Type fieldType) {
+            return elementTypeTag == TypeTags.INT_TAG && fieldType == FieldDescriptor.Type.SINT64
+                    || elementTypeTag == TypeTags.FLOAT_TAG && fieldType == FieldDescriptor.Type.DOUBLE
+                    || elementTypeTag == TypeTags.BOOLEAN_TAG && fieldType == FieldDescriptor.Type.BOOL;
+        }
+
+        public FieldDescriptor getFieldDescriptor() {
+            return fieldDescriptor;
+        }
+
+        public FieldDescriptor.Type getFieldType() {
+            return fieldType;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public int getWireType() {
+            return wireType;
+        }
+
+        public boolean isRepeated() {
+            return repeated;
+        }
+
+        public boolean isPackable() {
+            return packable;
+        }
+
+        public BString getKey() {
+            return key;
+        }
+
+        public Type getReferredType() {
+            return referredType;
+        }
+
+        public Decoder getDecoder() {
+            return decoder;
+        }
+
+        public DeserializationPlan getMessagePlan() {
+            return messagePlan;
+        }
+
+        // Type of the ballerina arrays created for the repeated field
+        public ArrayType getArrayType() {
+            return arrayType;
+        }
+
+        // Whether the repeated field is an int, float or boolean array which can be decoded in bulk
+        public boolean isPrimitiveArray() {
+            return primitiveArray;
+        }
+
+        /**
+         * Returns the string value of an enum number.
+         *
+         * @param number Number of the enum value.
+         * @return String value of the enum value, or null if the enum has no string value for the number.
+         */
+        public BString getEnumValue(int number) {
+            return number >= 0 && number < enumValues.length ? enumValues[number] : null;
+        }
+    }
+
+    private static final class PlanKey {
+        private final Descriptor messageDescriptor;
+        private final Type ballerinaType;
+
+        private PlanKey(Descriptor messageDescriptor, Type ballerinaType) {
+            this.messageDescriptor = messageDescriptor;
+            this.ballerinaType = ballerinaType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey planKey = (PlanKey) o;
+            return messageDescriptor == planKey.messageDescriptor && ballerinaType == planKey.ballerinaType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(messageDescriptor), System.identityHashCode(ballerinaType));
+        }
+    }
+}
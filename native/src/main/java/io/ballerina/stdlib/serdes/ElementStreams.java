@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.StreamType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.serdes.DeserializationPlan.FieldEntry;
+
+import java.io.IOException;
+
+import static io.ballerina.stdlib.serdes.Constants.DESERIALIZATION_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.DESERIALIZATION_PLAN;
+import static io.ballerina.stdlib.serdes.Constants.ELEMENT_ITERATOR;
+import static io.ballerina.stdlib.serdes.Constants.ELEMENT_TYPE;
+import static io.ballerina.stdlib.serdes.Constants.INCREMENTAL_DESERIALIZATION_NOT_SUPPORTED;
+import static io.ballerina.stdlib.serdes.Constants.REPEATED_FIELD_READER;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+import static io.ballerina.stdlib.serdes.Utils.getModule;
+
+/**
+ * {@link ElementStreams} class deserializes the elements of arrays and tables from a stream of byte chunks. Elements
+ * are decoded as the chunks are read, so the whole encoded value is never held in memory.
+ */
+public final class ElementStreams {
+    // Chunks are copied into the buffer of the reader, which grows to fit the largest element
+    private static final int INITIAL_BUFFER_CAPACITY = 8192;
+
+    private ElementStreams() {
+    }
+
+    /**
+     * Creates a stream of the elements of the array or the table encoded in the chunks of a byte stream.
+     *
+     * @param des         Deserializer object.
+     * @param chunks      Stream of the chunks of the encoded value.
+     * @param elementType Data type of the elements.
+     * @return Stream of the decoded elements.
+     */
+    @SuppressWarnings("unused")
+    public static Object deserializeElements(BObject des, BStream chunks, BTypedesc elementType) {
+        DeserializationPlan deserializationPlan = (DeserializationPlan) des.getNativeData(DESERIALIZATION_PLAN);
+        FieldEntry repeatedField = RepeatedFieldReader.getRepeatedField(deserializationPlan);
+        if (repeatedField == null) {
+            return createSerdesError(INCREMENTAL_DESERIALIZATION_NOT_SUPPORTED
+                    + deserializationPlan.getBallerinaType().getName(), SERDES_ERROR);
+        }
+        BObject iterator = ValueCreator.createObjectValue(getModule(), ELEMENT_ITERATOR, chunks);
+        iterator.addNativeData(REPEATED_FIELD_READER,
+                new RepeatedFieldReader(repeatedField, INITIAL_BUFFER_CAPACITY));
+        iterator.addNativeData(ELEMENT_TYPE, elementType.getDescribingType());
+        StreamType streamType = TypeCreator.createStreamType(elementType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL);
+        return ValueCreator.createStreamValue(streamType, iterator);
+    }
+
+    // Functions of the ElementIterator class of the module, which holds a reader in its native data
+
+    @SuppressWarnings("unused")
+    public static void addChunk(BObject iterator, BArray chunk) {
+        // Backing array of the chunk can be larger than the chunk
+        getReader(iterator).addInput(chunk.getByteArray(), chunk.size());
+    }
+
+    @SuppressWarnings("unused")
+    public static Object hasElement(BObject iterator) {
+        try {
+            return getReader(iterator).hasElement();
+        } catch (IOException e) {
+            return createSerdesError(DESERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static boolean hasPartialInput(BObject iterator) {
+        return getReader(iterator).hasPartialInput();
+    }
+
+    @SuppressWarnings("unused")
+    public static Object readElement(BObject iterator) {
+        try {
+            // Elements are checked one by one, as the stream is typed with the expected type of the elements
+            Object element = getReader(iterator).readElement();
+            return ValueTypeChecker.requireType(element, (Type) iterator.getNativeData(ELEMENT_TYPE));
+        } catch (BError ballerinaError) {
+            return ballerinaError;
+        } catch (Exception e) {
+            return createSerdesError(DESERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+    }
+
+    private static RepeatedFieldReader getReader(BObject iterator) {
+        return (RepeatedFieldReader) iterator.getNativeData(REPEATED_FIELD_READER);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.WireFormat;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.serdes.DeserializationPlan.Decoder;
+import io.ballerina.stdlib.serdes.DeserializationPlan.FieldEntry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static io.ballerina.stdlib.serdes.Constants.NOT_A_RECORD_FIELD;
+import static io.ballerina.stdlib.serdes.Constants.UNDEFINED_FIELD_PATH;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+
+/**
+ * {@link FieldPath} class extracts the value of a field of an encoded record, which may be a field of nested records.
+ * The names of the path are resolved to the fields of the record messages once, and the value is extracted by scanning
+ * the tags of the messages on the path, so only the value of the last field is decoded.
+ */
+public final class FieldPath {
+    private static final Pattern PATH_SEPARATOR = Pattern.compile("\\.");
+    private static final BString[] EMPTY_STRING_DICTIONARY = new BString[0];
+
+    // Fields of the messages on the path, record fields and the record member fields of union fields
+    private final FieldEntry[] fields;
+    // Whether each field is a member field of a union, which is not present if the union holds another member
+    private final boolean[] memberFields;
+    // Plan of the record message of the last field
+    private final DeserializationPlan recordPlan;
+
+    private FieldPath(List<FieldEntry> fields, List<Boolean> memberFields, DeserializationPlan recordPlan) {
+        this.fields = fields.toArray(new FieldEntry[0]);
+        this.memberFields = new boolean[fields.size()];
+        for (int i = 0; i < this.memberFields.length; i++) {
+            this.memberFields[i] = memberFields.get(i);
+        }
+        this.recordPlan = recordPlan;
+    }
+
+    /**
+     * Resolves a path of record field names separated by dots. Nested records are the values of record fields, or
+     * the record members of union fields with a single record member such as optional record fields.
+     *
+     * @param recordPlan Deserialization plan of the top level record message.
+     * @param path       Path of the field.
+     * @return Resolved field path.
+     */
+    public static FieldPath resolve(DeserializationPlan recordPlan, String path) {
+        String[] fieldNames = PATH_SEPARATOR.split(path, -1);
+        List<FieldEntry> fields = new ArrayList<>();
+        List<Boolean> memberFields = new ArrayList<>();
+        DeserializationPlan plan = recordPlan;
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (i > 0) {
+                FieldEntry memberField = plan == null ? null : getRecordMemberField(plan);
+                if (memberField != null) {
+                    fields.add(memberField);
+                    memberFields.add(true);
+                    plan = memberField.getMessagePlan();
+                }
+            }
+            if (plan == null || plan.getTypeTag() != TypeTags.RECORD_TYPE_TAG) {
+                throw createSerdesError(NOT_A_RECORD_FIELD + path, SERDES_ERROR);
+            }
+            FieldDescriptor fieldDescriptor = plan.getMessageDescriptor().findFieldByName(fieldNames[i]);
+            FieldEntry field = fieldDescriptor == null ? null : plan.getField(fieldDescriptor.getNumber());
+            if (field == null) {
+                throw createSerdesError(UNDEFINED_FIELD_PATH + path, SERDES_ERROR);
+            }
+            fields.add(field);
+            memberFields.add(false);
+            if (i < fieldNames.length - 1) {
+                // Only singular message fields hold nested records
+                plan = getNestedPlan(field);
+            }
+        }
+        return new FieldPath(fields, memberFields, plan);
+    }
+
+    private static DeserializationPlan getNestedPlan(FieldEntry field) {
+        return field.getDecoder() == Decoder.MESSAGE && !field.isRepeated() ? field.getMessagePlan() : null;
+    }
+
+    // Returns the member field of a union with a single record member, or null for the other messages
+    private static FieldEntry getRecordMemberField(DeserializationPlan plan) {
+        if (plan.getTypeTag() != TypeTags.UNION_TAG) {
+            return null;
+        }
+        FieldEntry recordMemberField = null;
+        for (int fieldNumber = 0; fieldNumber < plan.getFieldCount(); fieldNumber++) {
+            DeserializationPlan memberPlan = plan.getField(fieldNumber) == null ? null
+                    : getNestedPlan(plan.getField(fieldNumber));
+            if (memberPlan != null && memberPlan.getTypeTag() == TypeTags.RECORD_TYPE_TAG) {
+                if (recordMemberField != null) {
+                    return null;
+                }
+                recordMemberField = plan.getField(fieldNumber);
+            }
+        }
+        return recordMemberField;
+    }
+
+    /**
+     * Extracts the value of the field from an encoded record.
+     *
+     * @param encodedMessage Array which holds the encoded bytes of the record.
+     * @param length         Number of encoded bytes from the start of the array.
+     * @param rootPlan       Deserialization plan of the top level record message.
+     * @return Decoded value of the field or null if an optional field or an optional record is not present.
+     * @throws IOException if the encoded bytes are not a valid message of the schema.
+     */
+    public Object extract(byte[] encodedMessage, int length, DeserializationPlan rootPlan) throws IOException {
+        int messageOffset = 0;
+        int messageLength = length;
+        int lastIndex = fields.length - 1;
+        for (int i = 0; i < lastIndex; i++) {
+            // Nested records are read from the last occurrence of their fields, as the eagerly decoded records are
+            CodedInputStream input = CodedInputStream.newInstance(encodedMessage, messageOffset, messageLength);
+            int nestedOffset = -1;
+            int nestedLength = 0;
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if (isFieldTag(fields[i], tag)) {
+                    nestedLength = input.readRawVarint32();
+                    nestedOffset = messageOffset + input.getTotalBytesRead();
+                    input.skipRawBytes(nestedLength);
+                } else {
+                    input.skipField(tag);
+                }
+            }
+            if (nestedOffset < 0) {
+                // Union is nil or holds another member if its record member is not present
+                return memberFields[i] ? null : getDefaultValue();
+            }
+            messageOffset = nestedOffset;
+            messageLength = nestedLength;
+        }
+
+        FieldEntry field = fields[lastIndex];
+        CodedInputStream input = CodedInputStream.newInstance(encodedMessage, messageOffset, messageLength);
+        int fieldOffset = -1;
+        int occurrenceCount = 0;
+        int tagOffset = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (isFieldTag(field, tag)) {
+                // Singular fields are read from their last occurrence, repeated fields from all of them
+                if (!field.isRepeated() || occurrenceCount == 0) {
+                    fieldOffset = messageOffset + tagOffset;
+                }
+                occurrenceCount = field.isRepeated() ? occurrenceCount + 1 : 1;
+            }
+            input.skipField(tag);
+            tagOffset = input.getTotalBytesRead();
+        }
+        if (occurrenceCount == 0) {
+            return getDefaultValue();
+        }
+        return ValueReader.deserializeField(encodedMessage, fieldOffset, messageOffset + messageLength - fieldOffset,
+                field, occurrenceCount, getStringDictionary(encodedMessage, length, rootPlan));
+    }
+
+    private static boolean isFieldTag(FieldEntry field, int tag) {
+        int wireType = WireFormat.getTagWireType(tag);
+        return WireFormat.getTagFieldNumber(tag) == field.getNumber() && (wireType == field.getWireType()
+                || field.isPackable() && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    }
+
+    // Value of the field in a record decoded from a message without the field
+    private Object getDefaultValue() {
+        BMap<BString, Object> emptyRecord = recordPlan.getBallerinaType().getEmptyValue();
+        return emptyRecord.get(fields[fields.length - 1].getKey());
+    }
+
+    private static BString[] getStringDictionary(byte[] encodedMessage, int length, DeserializationPlan rootPlan)
+            throws IOException {
+        FieldDescriptor stringDictionaryField = rootPlan.getStringDictionaryField();
+        if (stringDictionaryField == null) {
+            return EMPTY_STRING_DICTIONARY;
+        }
+        return ValueReader.readStringDictionary(encodedMessage, 0, length, stringDictionaryField.getNumber());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import io.ballerina.runtime.api.types.Type;
+
+/**
+ * {@link GeneratedSchema} holds the protobuf message descriptor, the proto3 definition and the serialization and
+ * deserialization plans generated for a ballerina type.
+ */
+public final class GeneratedSchema {
+    private final Descriptor messageDescriptor;
+    private final String proto3;
+    private final SerializationPlan serializationPlan;
+    private final DeserializationPlan deserializationPlan;
+
+    public GeneratedSchema(Descriptor messageDescriptor, String proto3, Type referredType) {
+        this.messageDescriptor = messageDescriptor;
+        this.proto3 = proto3;
+        this.deserializationPlan = DeserializationPlan.compile(messageDescriptor, referredType);
+        this.serializationPlan = SerializationPlan.compile(messageDescriptor, deserializationPlan);
+    }
+
+    public Descriptor getMessageDescriptor() {
+        return messageDescriptor;
+    }
+
+    public String getProto3() {
+        return proto3;
+    }
+
+    public SerializationPlan getSerializationPlan() {
+        return serializationPlan;
+    }
+
+    public DeserializationPlan getDeserializationPlan() {
+        return deserializationPlan;
+    }
+}
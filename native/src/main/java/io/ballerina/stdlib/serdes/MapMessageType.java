@@ -46,7 +46,6 @@ import static io.ballerina.stdlib.serdes.Constants.MAP_FIELD_ENTRY;
 import static io.ballerina.stdlib.serdes.Constants.OPTIONAL_LABEL;
 import static io.ballerina.stdlib.serdes.Constants.RECORD_BUILDER;
 import static io.ballerina.stdlib.serdes.Constants.REPEATED_LABEL;
-import static io.ballerina.stdlib.serdes.Constants.STRING;
 import static io.ballerina.stdlib.serdes.Constants.TABLE_BUILDER;
 import static io.ballerina.stdlib.serdes.Constants.TUPLE_BUILDER;
 import static io.ballerina.stdlib.serdes.Constants.TYPE_SEPARATOR;
@@ -92,15 +91,13 @@ public class MapMessageType extends MessageType {
 
     @Override
     public void setDecimalField(DecimalType decimalType) {
-        ProtobufMessageBuilder decimalMessageDefinition = generateDecimalMessageDefinition();
-        addValueFieldInMapEntryBuilder(decimalMessageDefinition);
+        addValueFieldInMapEntryBuilder(getDecimalMessageType(mapEntryBuilder));
         addMapEntryFieldInMessageBuilder();
     }
 
     @Override
     public void setStringField(StringType stringType) {
-        String protoType = DataTypeMapper.mapBallerinaTypeToProtoType(stringType.getTag());
-        addValueFieldInMapEntryBuilder(protoType);
+        addValueFieldInMapEntryBuilder(getStringProtoType());
         addMapEntryFieldInMessageBuilder();
     }
 
@@ -139,7 +136,7 @@ public class MapMessageType extends MessageType {
     @Override
     public void setTableField(TableType tableType) {
         ProtobufMessageBuilder valueMessageBuilder = new ProtobufMessageBuilder(TABLE_BUILDER, mapEntryBuilder);
-        MessageType childMessageType = new TableMessageType(tableType, valueMessageBuilder, getMessageGenerator());
+        MessageType childMessageType = TableMessageType.create(tableType, valueMessageBuilder, getMessageGenerator());
         ProtobufMessageBuilder valueMessageDefinition = getNestedMessageDefinition(childMessageType);
         addValueFieldInMapEntryBuilder(valueMessageDefinition);
         addMapEntryFieldInMessageBuilder();
@@ -191,8 +188,8 @@ public class MapMessageType extends MessageType {
     }
 
     private void addKeyFieldInMapEntryBuilder() {
-        ProtobufMessageFieldBuilder keyField = new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, STRING, KEY_NAME,
-                keyFieldNumber);
+        ProtobufMessageFieldBuilder keyField = new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, getStringProtoType(),
+                KEY_NAME, keyFieldNumber);
         mapEntryBuilder.addField(keyField);
     }
 
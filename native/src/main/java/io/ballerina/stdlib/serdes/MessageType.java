@@ -45,7 +45,11 @@ import static io.ballerina.stdlib.serdes.Constants.DECIMAL_VALUE;
 import static io.ballerina.stdlib.serdes.Constants.OPTIONAL_LABEL;
 import static io.ballerina.stdlib.serdes.Constants.PRECISION;
 import static io.ballerina.stdlib.serdes.Constants.SCALE;
+import static io.ballerina.stdlib.serdes.Constants.SINT32;
+import static io.ballerina.stdlib.serdes.Constants.SINT64;
+import static io.ballerina.stdlib.serdes.Constants.STRING;
 import static io.ballerina.stdlib.serdes.Constants.UINT32;
+import static io.ballerina.stdlib.serdes.Constants.UNSCALED_VALUE;
 import static io.ballerina.stdlib.serdes.Constants.VALUE;
 
 /**
@@ -118,15 +122,39 @@ public abstract class MessageType {
     }
 
     public void setDecimalField(DecimalType decimalType) {
-        ProtobufMessageBuilder nestedMessageBuilder = generateDecimalMessageDefinition();
-        messageBuilder.addNestedMessage(nestedMessageBuilder);
-        String protoType = DataTypeMapper.mapBallerinaTypeToProtoType(decimalType.getTag());
-        addMessageFieldInMessageBuilder(OPTIONAL_LABEL, protoType);
+        addMessageFieldInMessageBuilder(OPTIONAL_LABEL, getDecimalMessageType(messageBuilder));
     }
 
-    public ProtobufMessageBuilder generateDecimalMessageDefinition() {
+    /**
+     * Makes the DecimalValue message visible to the fields of the given message and returns the type name to be used
+     * by those fields. The message is defined once at the file scope whenever the generator allows it, otherwise a
+     * copy is nested in the given message.
+     *
+     * @param parentMessageBuilder Message holding the decimal fields.
+     * @return Type name of the DecimalValue message.
+     */
+    public String getDecimalMessageType(ProtobufMessageBuilder parentMessageBuilder) {
+        if (messageGenerator.isDecimalMessageShared()) {
+            messageGenerator.setDecimalMessageUsed();
+            // Fully qualified so that a nested message with the same name can not shadow it
+            return "." + DECIMAL_VALUE;
+        }
+        SchemaOptions schemaOptions = messageGenerator.getSchemaOptions();
+        parentMessageBuilder.addNestedMessage(generateDecimalMessageDefinition(schemaOptions));
+        return DECIMAL_VALUE;
+    }
+
+    public static ProtobufMessageBuilder generateDecimalMessageDefinition(SchemaOptions schemaOptions) {
         ProtobufMessageBuilder nestedMessageBuilder = new ProtobufMessageBuilder(DECIMAL_VALUE);
 
+        if (schemaOptions.isCompactDecimals()) {
+            // Unscaled values fitting in 64 bits are written to the unscaledValue field, others to the value field
+            nestedMessageBuilder.addField(new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, SINT32, SCALE, 1));
+            nestedMessageBuilder.addField(new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, SINT64, UNSCALED_VALUE, 2));
+            nestedMessageBuilder.addField(new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, BYTES, VALUE, 3));
+            return nestedMessageBuilder;
+        }
+
         // Java BigDecimal representation used for serializing ballerina decimal value
         ProtobufMessageFieldBuilder scaleField = new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, UINT32, SCALE, 1);
         ProtobufMessageFieldBuilder precisionField = new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, UINT32, PRECISION,
@@ -141,8 +169,12 @@ public abstract class MessageType {
     }
 
     public void setStringField(StringType stringType) {
-        String protoType = DataTypeMapper.mapBallerinaTypeToProtoType(stringType.getTag());
-        addMessageFieldInMessageBuilder(OPTIONAL_LABEL, protoType);
+        addMessageFieldInMessageBuilder(OPTIONAL_LABEL, getStringProtoType());
+    }
+
+    // String values are references to the string dictionary of the top level message in schemas with dictionaries
+    public String getStringProtoType() {
+        return messageGenerator.getSchemaOptions().isStringDictionary() ? UINT32 : STRING;
     }
 
     public void setBooleanField(BooleanType booleanType) {
@@ -198,7 +230,7 @@ public abstract class MessageType {
 
     public void addChildMessageDefinitionInMessageBuilder(String childMessageName, TableType tableType) {
         ProtobufMessageBuilder childMessageBuilder = new ProtobufMessageBuilder(childMessageName, messageBuilder);
-        MessageType childMessageType = new TableMessageType(tableType, childMessageBuilder, messageGenerator);
+        MessageType childMessageType = TableMessageType.create(tableType, childMessageBuilder, messageGenerator);
         ProtobufMessageBuilder childMessageDefinition = getNestedMessageDefinition(childMessageType);
         messageBuilder.addNestedMessage(childMessageDefinition);
     }
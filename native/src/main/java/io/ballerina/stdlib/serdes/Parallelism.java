@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link Parallelism} class holds the bounded pool on which large arrays and tables are encoded and decoded in chunks.
+ * Parallel encoding and decoding are disabled unless the module is configured with a parallelism of at least two.
+ * A configuration is immutable, a value which is encoded or decoded in chunks uses the same configuration for all
+ * of its chunks even if the module is reconfigured meanwhile.
+ */
+public final class Parallelism {
+    private static final int MAX_PARALLELISM = 256;
+
+    private static volatile Parallelism configured = null;
+
+    private final int parallelism;
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    private Parallelism(int parallelism, int threshold) {
+        this.parallelism = parallelism;
+        this.threshold = threshold;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Configures the pool from the configurable variables of the module, replacing the pool of any previous
+     * configuration.
+     *
+     * @param configuredParallelism Number of threads of the pool, values less than two disable parallel encoding
+     *                              and decoding.
+     * @param configuredThreshold   Minimum number of elements of the arrays and tables encoded and decoded
+     *                              in parallel.
+     */
+    @SuppressWarnings("unused")
+    public static void setParallelism(long configuredParallelism, long configuredThreshold) {
+        // The previous pool is not shut down, chunks of values which are encoded or decoded with it may still be
+        // running. Its worker threads terminate once they are idle.
+        if (configuredParallelism < 2) {
+            configured = null;
+            return;
+        }
+        int threadCount = (int) Math.min(configuredParallelism, MAX_PARALLELISM);
+        // Each chunk has at least one element
+        int threshold = (int) Math.max(Math.min(configuredThreshold, Integer.MAX_VALUE), threadCount);
+        configured = new Parallelism(threadCount, threshold);
+    }
+
+    /**
+     * Returns the current configuration if a value of the given number of elements is encoded and decoded in
+     * parallel. The configuration is read once, the returned one is used for all the chunks of the value.
+     *
+     * @param elementCount Number of elements of the array or the table.
+     * @return Current configuration, or null if the value is encoded and decoded by the calling thread.
+     */
+    static Parallelism getParallelism(int elementCount) {
+        Parallelism current = configured;
+        return current != null && elementCount >= current.threshold ? current : null;
+    }
+
+    int getChunkCount(int elementCount) {
+        return Math.min(parallelism, elementCount);
+    }
+
+    /**
+     * Runs the tasks on the pool and returns their results in the order of the tasks.
+     *
+     * @param tasks Tasks which are run in parallel.
+     * @param <T>   Result type of the tasks.
+     * @return Results of the tasks, or null if the pool rejects the tasks and the value has to be encoded or decoded
+     * by the calling thread.
+     * @throws IOException if a task fails with an I/O error or the calling thread is interrupted.
+     */
+    <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (RejectedExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            // Errors of the tasks are thrown as they would be by the calling thread
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+        return results;
+    }
+}
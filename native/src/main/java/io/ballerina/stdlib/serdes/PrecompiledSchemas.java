@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static io.ballerina.stdlib.serdes.Constants.PRECOMPILED_SCHEMA_LOAD_FAILURE;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+
+/**
+ * {@link PrecompiledSchemas} keeps the schemas generated at compile time by the serdes compiler plugin. The plugin
+ * registers the serialized file descriptor of each schema during module initialization, and the descriptor is only
+ * built when a schema object is created for the type.
+ * <p>
+ * The registrations are only made by the generated sources, which bind their own external function to
+ * {@link #registerSchema}, so the serdes module does not expose a function registering schemas. A registered schema is
+ * still validated against the data type when it is loaded, as it is not generated from the runtime type.
+ */
+public final class PrecompiledSchemas {
+    private static final Map<Type, PrecompiledSchema> schemas = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private PrecompiledSchemas() {
+    }
+
+    /**
+     * Registers a schema generated at compile time for a given data type.
+     *
+     * @param bTypedesc      Data type of the schema.
+     * @param fileDescriptor Serialized {@code FileDescriptorProto} containing the schema message.
+     * @param proto3         Proto3 definition of the schema.
+     * @return true if the schema is registered, false if a schema is already registered for the data type.
+     */
+    @SuppressWarnings("unused")
+    public static boolean registerSchema(BTypedesc bTypedesc, BArray fileDescriptor, BString proto3) {
+        Type referredType = TypeUtils.getReferredType(bTypedesc.getDescribingType());
+        return register(referredType, fileDescriptor.getBytes(), proto3.getValue());
+    }
+
+    /**
+     * Registers the compile time schema of a type.
+     *
+     * @param referredType   Referred type of the schema data type.
+     * @param fileDescriptor Serialized {@code FileDescriptorProto} containing the schema message.
+     * @param proto3         Proto3 definition of the schema.
+     * @return true if the schema is registered, false if a schema is already registered for the type.
+     */
+    public static boolean register(Type referredType, byte[] fileDescriptor, String proto3) {
+        return schemas.putIfAbsent(referredType, new PrecompiledSchema(fileDescriptor, proto3)) == null;
+    }
+
+    /**
+     * Builds the compile time schema of a type.
+     *
+     * @param referredType Referred type of the schema data type.
+     * @return {@code GeneratedSchema} of the type, null if no schema is registered for the type.
+     * @throws InvalidProtocolBufferException if the registered file descriptor can not be parsed.
+     * @throws DescriptorValidationException  if the registered message definitions are not valid.
+     * @throws BError                         if the registered messages do not match the type.
+     */
+    public static GeneratedSchema load(Type referredType)
+            throws InvalidProtocolBufferException, DescriptorValidationException {
+        PrecompiledSchema precompiledSchema = schemas.get(referredType);
+        if (precompiledSchema == null) {
+            return null;
+        }
+        FileDescriptorProto fileDescriptorProto = FileDescriptorProto.parseFrom(precompiledSchema.fileDescriptor);
+        FileDescriptor fileDescriptor = FileDescriptor.buildFrom(fileDescriptorProto, new FileDescriptor[]{});
+        Descriptor messageDescriptor = fileDescriptor.getMessageTypes().get(0);
+        GeneratedSchema schema = new GeneratedSchema(messageDescriptor, precompiledSchema.proto3, referredType);
+        try {
+            SchemaValidator.validate(schema.getDeserializationPlan());
+        } catch (BError e) {
+            throw createSerdesError(PRECOMPILED_SCHEMA_LOAD_FAILURE + e.getErrorMessage().getValue(),
+                    SERDES_ERROR);
+        }
+        return schema;
+    }
+
+    private static final class PrecompiledSchema {
+        private final byte[] fileDescriptor;
+        private final String proto3;
+
+        private PrecompiledSchema(byte[] fileDescriptor, String proto3) {
+            this.fileDescriptor = fileDescriptor;
+            this.proto3 = proto3;
+        }
+    }
+}
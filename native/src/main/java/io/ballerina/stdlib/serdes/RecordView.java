@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.WireFormat;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.serdes.DeserializationPlan.FieldEntry;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static io.ballerina.stdlib.serdes.Constants.UNDEFINED_RECORD_FIELD;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+
+/**
+ * {@link RecordView} class decodes the fields of an encoded record on their first access. The offsets of the fields
+ * are found by a single scan of the tags of the top level message, which skips the values of the fields, so reading a
+ * few fields of a large record does not decode the others.
+ * <p>
+ * Decoded fields are the same values as the fields of the record decoded by {@link ValueReader}. They are decoded
+ * once and kept by the view, so each access returns a copy of the structured values, which does not share the kept
+ * values with the caller or with the values returned by the other accesses.
+ */
+public final class RecordView {
+    private final byte[] encodedMessage;
+    private final DeserializationPlan recordPlan;
+    // Offset of the first occurrence and the number of occurrences of each field, indexed by field number. Singular
+    // fields are read from their last occurrence, since later occurrences replace the earlier ones.
+    private final int[] fieldOffsets;
+    private final int[] occurrenceCounts;
+    private final Object[] fieldValues;
+    private final boolean[] decodedFields;
+    private BString[] stringDictionary;
+    // Default values of the fields which are not present in the encoded message
+    private BMap<BString, Object> emptyRecord;
+
+    private RecordView(byte[] encodedMessage, DeserializationPlan recordPlan) {
+        this.encodedMessage = encodedMessage;
+        this.recordPlan = recordPlan;
+        int fieldCount = recordPlan.getFieldCount();
+        this.fieldOffsets = new int[fieldCount];
+        this.occurrenceCounts = new int[fieldCount];
+        this.fieldValues = new Object[fieldCount];
+        this.decodedFields = new boolean[fieldCount];
+    }
+
+    /**
+     * Finds the fields of an encoded record without decoding their values.
+     *
+     * @param encodedMessage Encoded bytes of the record, which are copied so the view does not share the array.
+     * @param length         Number of encoded bytes.
+     * @param recordPlan     Deserialization plan of the record schema.
+     * @return View of the encoded record.
+     * @throws IOException if the tags of the encoded bytes are not valid.
+     */
+    public static RecordView index(byte[] encodedMessage, int length, DeserializationPlan recordPlan)
+            throws IOException {
+        RecordView recordView = new RecordView(Arrays.copyOf(encodedMessage, length), recordPlan);
+        CodedInputStream input = CodedInputStream.newInstance(recordView.encodedMessage);
+        int offset = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldEntry field = recordPlan.getField(WireFormat.getTagFieldNumber(tag));
+            int wireType = WireFormat.getTagWireType(tag);
+            if (field != null && (wireType == field.getWireType()
+                    || field.isPackable() && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED)) {
+                recordView.addOccurrence(field, offset);
+            }
+            input.skipField(tag);
+            offset = input.getTotalBytesRead();
+        }
+        return recordView;
+    }
+
+    /**
+     * Returns the value of a field, the field is decoded on its first access.
+     *
+     * @param fieldName Name of the record field.
+     * @return Decoded value of the field or null if an optional field is not present.
+     * @throws IOException if the encoded value of the field is not valid.
+     */
+    public synchronized Object getField(BString fieldName) throws IOException {
+        return copyOf(getDecodedField(fieldName));
+    }
+
+    private Object getDecodedField(BString fieldName) throws IOException {
+        FieldEntry field = getFieldEntry(fieldName);
+        int fieldNumber = field.getNumber();
+        if (decodedFields[fieldNumber]) {
+            return fieldValues[fieldNumber];
+        }
+        Object value;
+        if (occurrenceCounts[fieldNumber] == 0) {
+            value = getEmptyRecord().get(fieldName);
+        } else {
+            int offset = fieldOffsets[fieldNumber];
+            value = ValueReader.deserializeField(encodedMessage, offset, encodedMessage.length - offset, field,
+                    occurrenceCounts[fieldNumber], getStringDictionary());
+        }
+        fieldValues[fieldNumber] = value;
+        decodedFields[fieldNumber] = true;
+        return value;
+    }
+
+    /**
+     * Checks whether the record has a field, optional fields are present only if they are present in the encoded
+     * message or have default values.
+     *
+     * @param fieldName Name of the record field.
+     * @return True if the decoded record has the field.
+     */
+    public synchronized boolean hasField(BString fieldName) {
+        FieldEntry field = getFieldEntry(fieldName);
+        return occurrenceCounts[field.getNumber()] > 0 || getEmptyRecord().containsKey(fieldName);
+    }
+
+    /**
+     * Decodes all the fields of the record, the fields which are already decoded are not decoded again.
+     *
+     * @return Decoded record, which does not share its fields with the view.
+     * @throws IOException if the encoded value of a field is not valid.
+     */
+    public synchronized BMap<BString, Object> toRecord() throws IOException {
+        BMap<BString, Object> record = recordPlan.getBallerinaType().getEmptyValue();
+        for (int fieldNumber = 0; fieldNumber < occurrenceCounts.length; fieldNumber++) {
+            if (occurrenceCounts[fieldNumber] > 0) {
+                BString fieldName = recordPlan.getField(fieldNumber).getKey();
+                record.put(fieldName, copyOf(getDecodedField(fieldName)));
+            }
+        }
+        return record;
+    }
+
+    // Simple values are immutable, only structured values are copied
+    private static Object copyOf(Object value) {
+        return value instanceof BRefValue ? ((BRefValue) value).copy(new HashMap<>()) : value;
+    }
+
+    private void addOccurrence(FieldEntry field, int offset) {
+        int fieldNumber = field.getNumber();
+        if (!field.isRepeated() || occurrenceCounts[fieldNumber] == 0) {
+            fieldOffsets[fieldNumber] = offset;
+        }
+        occurrenceCounts[fieldNumber] = field.isRepeated() ? occurrenceCounts[fieldNumber] + 1 : 1;
+    }
+
+    private FieldEntry getFieldEntry(BString fieldName) {
+        FieldDescriptor fieldDescriptor = recordPlan.getMessageDescriptor().findFieldByName(fieldName.getValue());
+        FieldEntry field = fieldDescriptor == null ? null : recordPlan.getField(fieldDescriptor.getNumber());
+        // String dictionary field does not have an entry, as it is not a field of the record
+        if (field == null) {
+            throw createSerdesError(UNDEFINED_RECORD_FIELD + fieldName.getValue(), SERDES_ERROR);
+        }
+        return field;
+    }
+
+    private BMap<BString, Object> getEmptyRecord() {
+        if (emptyRecord == null) {
+            emptyRecord = recordPlan.getBallerinaType().getEmptyValue();
+        }
+        return emptyRecord;
+    }
+
+    private BString[] getStringDictionary() throws IOException {
+        if (stringDictionary == null) {
+            FieldDescriptor stringDictionaryField = recordPlan.getStringDictionaryField();
+            stringDictionary = stringDictionaryField == null ? new BString[0]
+                    : ValueReader.readStringDictionary(encodedMessage, 0, encodedMessage.length,
+                    stringDictionaryField.getNumber());
+        }
+        return stringDictionary;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import static io.ballerina.stdlib.serdes.Constants.DESERIALIZATION_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.DESERIALIZATION_PLAN;
+import static io.ballerina.stdlib.serdes.Constants.RECORD_VIEW;
+import static io.ballerina.stdlib.serdes.Constants.RECORD_VIEW_DATA;
+import static io.ballerina.stdlib.serdes.Constants.RECORD_VIEW_NOT_SUPPORTED;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+import static io.ballerina.stdlib.serdes.Utils.getModule;
+
+/**
+ * {@link RecordViews} class creates views of encoded records, which decode the fields of the records on their first
+ * access.
+ */
+public final class RecordViews {
+
+    private RecordViews() {
+    }
+
+    /**
+     * Creates a view of an encoded record.
+     *
+     * @param des            Deserializer object.
+     * @param encodedMessage Byte array corresponding to the encoded record.
+     * @return RecordView object.
+     */
+    @SuppressWarnings("unused")
+    public static Object deserializeView(BObject des, BArray encodedMessage) {
+        DeserializationPlan deserializationPlan = (DeserializationPlan) des.getNativeData(DESERIALIZATION_PLAN);
+        if (deserializationPlan.getTypeTag() != TypeTags.RECORD_TYPE_TAG) {
+            return createSerdesError(RECORD_VIEW_NOT_SUPPORTED + deserializationPlan.getBallerinaType().getName(),
+                    SERDES_ERROR);
+        }
+        try {
+            // Backing array of the encoded message can be larger than the message
+            RecordView recordView = RecordView.index(encodedMessage.getByteArray(), encodedMessage.size(),
+                    deserializationPlan);
+            BObject view = ValueCreator.createObjectValue(getModule(), RECORD_VIEW);
+            view.addNativeData(RECORD_VIEW_DATA, recordView);
+            return view;
+        } catch (Exception e) {
+            return createSerdesError(DESERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+    }
+
+    // Methods of the RecordView class of the module, which holds a record view in its native data
+
+    @SuppressWarnings("unused")
+    public static Object get(BObject view, BString fieldName) {
+        try {
+            return getRecordView(view).getField(fieldName);
+        } catch (BError ballerinaError) {
+            return ballerinaError;
+        } catch (Exception e) {
+            return createSerdesError(DESERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static Object hasField(BObject view, BString fieldName) {
+        try {
+            return getRecordView(view).hasField(fieldName);
+        } catch (BError ballerinaError) {
+            return ballerinaError;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static Object toRecord(BObject view, BTypedesc dataType) {
+        try {
+            return ValueTypeChecker.requireType(getRecordView(view).toRecord(), dataType.getDescribingType());
+        } catch (BError ballerinaError) {
+            return ballerinaError;
+        } catch (Exception e) {
+            return createSerdesError(DESERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+    }
+
+    private static RecordView getRecordView(BObject view) {
+        return (RecordView) view.getNativeData(RECORD_VIEW_DATA);
+    }
+}
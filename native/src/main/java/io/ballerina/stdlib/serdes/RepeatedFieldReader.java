@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.stdlib.serdes.DeserializationPlan.FieldEntry;
+
+import java.io.IOException;
+
+/**
+ * {@link RepeatedFieldReader} class decodes the elements of the repeated field of a top level array or table message
+ * while the bytes of the message are added in chunks. An element is decoded once all of its bytes are added, so only
+ * the bytes of the elements which are not read yet are buffered instead of the whole message.
+ * <p>
+ * Elements of packed fields are decoded one at a time as well, the other fields of the message are skipped.
+ */
+public final class RepeatedFieldReader {
+    // Varints take at most ten bytes
+    private static final int MAX_VARINT_SIZE = 10;
+    private static final int FIXED64_SIZE = 8;
+    private static final int FIXED32_SIZE = 4;
+
+    private final FieldEntry repeatedField;
+    private byte[] buffer;
+    // Buffered bytes are the bytes from the start up to the end of the buffer array
+    private int start = 0;
+    private int end = 0;
+    // Remaining bytes of the packed field which is being read
+    private int packedBytes = 0;
+    // Remaining bytes of an unknown field, which are skipped as they are added
+    private int skippedBytes = 0;
+    // Position and end of the encoded value of the next element, the offset is negative until the element is found
+    private int elementOffset = -1;
+    private int elementEnd = 0;
+
+    public RepeatedFieldReader(FieldEntry repeatedField, int initialCapacity) {
+        this.repeatedField = repeatedField;
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Finds the repeated field which holds the elements of an array or a table message.
+     *
+     * @param deserializationPlan Deserialization plan of the schema.
+     * @return Repeated field of the message or null if the elements can not be read one at a time.
+     */
+    public static FieldEntry getRepeatedField(DeserializationPlan deserializationPlan) {
+        // Strings are references to the string dictionary, which is written after the elements
+        if (deserializationPlan.getStringDictionaryField() != null) {
+            return null;
+        }
+        FieldEntry repeatedField;
+        switch (deserializationPlan.getTypeTag()) {
+            case TypeTags.ARRAY_TAG:
+                repeatedField = deserializationPlan.getArrayField();
+                break;
+            case TypeTags.TABLE_TAG:
+                // Columnar tables do not have a table entry field
+                repeatedField = deserializationPlan.getTableEntryField();
+                break;
+            default:
+                return null;
+        }
+        // Byte arrays are encoded as a single bytes field
+        return repeatedField != null && repeatedField.isRepeated() ? repeatedField : null;
+    }
+
+    /**
+     * Appends the next chunk of the encoded message to the buffer.
+     *
+     * @param input  Array which holds the bytes of the chunk.
+     * @param length Number of bytes from the start of the array.
+     */
+    public void addInput(byte[] input, int length) {
+        int offset = 0;
+        if (skippedBytes > 0 && start == end) {
+            // Bytes of skipped fields are not buffered
+            offset = Math.min(skippedBytes, length);
+            skippedBytes -= offset;
+        }
+        System.arraycopy(input, offset, reserve(length - offset), end, length - offset);
+        end += length - offset;
+    }
+
+    /**
+     * Checks whether all the bytes of the next element are buffered.
+     *
+     * @return True if the next element can be read.
+     * @throws IOException if the buffered bytes are not a valid encoding of the message.
+     */
+    public boolean hasElement() throws IOException {
+        while (elementOffset < 0) {
+            if (skippedBytes > 0) {
+                int skipped = Math.min(skippedBytes, end - start);
+                start += skipped;
+                skippedBytes -= skipped;
+                if (skippedBytes > 0) {
+                    return false;
+                }
+            }
+            if (packedBytes > 0) {
+                return findPackedElement();
+            }
+            if (!findField()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the next element of the buffer, the element is found by {@link #hasElement()}.
+     *
+     * @return Decoded ballerina value of the element.
+     * @throws IOException if the element is not a valid element of the repeated field.
+     */
+    public Object readElement() throws IOException {
+        if (!hasElement()) {
+            throw new InvalidProtocolBufferException("Element of the repeated field is not buffered.");
+        }
+        int offset = elementOffset;
+        if (packedBytes > 0) {
+            packedBytes -= elementEnd - offset;
+        }
+        // Element is consumed even if it can not be decoded, so the input is not read again
+        start = elementEnd;
+        elementOffset = -1;
+        return ValueReader.deserializeElement(buffer, offset, elementEnd - offset, repeatedField);
+    }
+
+    /**
+     * Checks whether the added bytes end in the middle of a field.
+     *
+     * @return True if the message is not complete.
+     */
+    public boolean hasPartialInput() {
+        return start < end || packedBytes > 0 || skippedBytes > 0;
+    }
+
+    private boolean findPackedElement() throws IOException {
+        int available = Math.min(end - start, packedBytes);
+        int size;
+        if (repeatedField.getFieldType() == FieldDescriptor.Type.DOUBLE) {
+            size = available >= FIXED64_SIZE ? FIXED64_SIZE : -1;
+        } else {
+            size = getVarintSize(start, start + available);
+        }
+        if (size < 0) {
+            if (available == packedBytes) {
+                throw new InvalidProtocolBufferException("Packed field ended in the middle of an element.");
+            }
+            return false;
+        }
+        elementOffset = start;
+        elementEnd = start + size;
+        return true;
+    }
+
+    // Reads the tag of the next field and finds the element of the repeated field or skips an unknown field
+    private boolean findField() throws IOException {
+        int tagSize = getVarintSize(start, end);
+        if (tagSize < 0) {
+            return false;
+        }
+        int tag = readVarint32(start, tagSize);
+        int wireType = WireFormat.getTagWireType(tag);
+        if (WireFormat.getTagFieldNumber(tag) == 0) {
+            throw new InvalidProtocolBufferException("Protocol message contained an invalid tag (zero).");
+        }
+        int valueOffset = start + tagSize;
+        boolean isElement = WireFormat.getTagFieldNumber(tag) == repeatedField.getNumber()
+                && (wireType == repeatedField.getWireType() || wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED
+                && repeatedField.isPackable());
+        int valueSize;
+        switch (wireType) {
+            case WireFormat.WIRETYPE_VARINT:
+                valueSize = getVarintSize(valueOffset, end);
+                break;
+            case WireFormat.WIRETYPE_FIXED64:
+                valueSize = end - valueOffset >= FIXED64_SIZE ? FIXED64_SIZE : -1;
+                break;
+            case WireFormat.WIRETYPE_FIXED32:
+                valueSize = end - valueOffset >= FIXED32_SIZE ? FIXED32_SIZE : -1;
+                break;
+            case WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                return findLengthDelimitedValue(valueOffset, isElement);
+            default:
+                throw new InvalidProtocolBufferException("Protocol message tag had invalid wire type.");
+        }
+        if (valueSize < 0) {
+            return false;
+        }
+        if (isElement) {
+            start = valueOffset;
+            elementOffset = valueOffset;
+            elementEnd = valueOffset + valueSize;
+        } else {
+            start = valueOffset + valueSize;
+        }
+        return true;
+    }
+
+    private boolean findLengthDelimitedValue(int prefixOffset, boolean isElement) throws IOException {
+        int prefixSize = getVarintSize(prefixOffset, end);
+        if (prefixSize < 0) {
+            return false;
+        }
+        int length = readVarint32(prefixOffset, prefixSize);
+        if (length < 0) {
+            throw new InvalidProtocolBufferException("CodedInputStream encountered an embedded string or message "
+                    + "which claimed to have negative size.");
+        }
+        int valueOffset = prefixOffset + prefixSize;
+        if (!isElement) {
+            start = valueOffset;
+            skippedBytes = length;
+        } else if (repeatedField.isPackable()) {
+            start = valueOffset;
+            packedBytes = length;
+        } else if (end - valueOffset >= length) {
+            // Messages and strings are decoded with their length prefixes
+            start = prefixOffset;
+            elementOffset = prefixOffset;
+            elementEnd = valueOffset + length;
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    // Returns the size of the varint at the given position or -1 if the varint is not buffered completely
+    private int getVarintSize(int offset, int limit) throws InvalidProtocolBufferException {
+        // Last byte of a varint is the first byte without the continuation bit
+        for (int position = offset; position < limit; position++) {
+            if ((buffer[position] & 0x80) == 0) {
+                return position - offset + 1;
+            }
+            if (position - offset + 1 == MAX_VARINT_SIZE) {
+                throw new InvalidProtocolBufferException("CodedInputStream encountered a malformed varint.");
+            }
+        }
+        return -1;
+    }
+
+    private int readVarint32(int offset, int size) throws IOException {
+        return CodedInputStream.newInstance(buffer, offset, size).readRawVarint32();
+    }
+
+    // Returns the buffer array with space for the given number of bytes after the end of the buffered bytes
+    private byte[] reserve(int length) {
+        if (buffer.length - end >= length) {
+            return buffer;
+        }
+        int bufferedSize = end - start;
+        if (buffer.length - bufferedSize >= length) {
+            // Consumed bytes at the start make enough space without growing the buffer
+            System.arraycopy(buffer, start, buffer, 0, bufferedSize);
+        } else {
+            byte[] grownBuffer = new byte[Math.max(bufferedSize + length, buffer.length * 2)];
+            System.arraycopy(buffer, start, grownBuffer, 0, bufferedSize);
+            buffer = grownBuffer;
+        }
+        if (elementOffset >= 0) {
+            elementOffset -= start;
+            elementEnd -= start;
+        }
+        start = 0;
+        end = bufferedSize;
+        return buffer;
+    }
+}
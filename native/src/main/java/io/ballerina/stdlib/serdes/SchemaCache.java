@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link SchemaCache} keeps the schemas generated for ballerina types, so that creating a schema for an already seen
+ * type does not walk the type and build the protobuf descriptors again.
+ */
+public final class SchemaCache {
+    private static final int MAX_CACHED_SCHEMAS = 1024;
+
+    private static final Map<Key, GeneratedSchema> schemas = new ConcurrentHashMap<>();
+    // Insertion order of the cached schemas, the oldest entry is evicted once the cache is full
+    private static final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+
+    private SchemaCache() {
+    }
+
+    /**
+     * Returns the cached schema of the given type, generated with the given options.
+     *
+     * @param referredType  Referred type of the schema data type.
+     * @param schemaOptions Options of the schema.
+     * @return {@code GeneratedSchema} of the type, null if the schema is not cached.
+     */
+    public static GeneratedSchema get(Type referredType, SchemaOptions schemaOptions) {
+        GeneratedSchema schema = schemas.get(new Key(referredType, schemaOptions));
+        if (schema == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return schema;
+    }
+
+    /**
+     * Adds a schema generated with the given options to the cache, evicting the oldest schemas when the cache is full.
+     *
+     * @param referredType  Referred type of the schema data type.
+     * @param schemaOptions Options of the schema.
+     * @param schema        Schema generated for the type.
+     */
+    public static void put(Type referredType, SchemaOptions schemaOptions, GeneratedSchema schema) {
+        Key key = new Key(referredType, schemaOptions);
+        if (schemas.putIfAbsent(key, schema) != null) {
+            return;
+        }
+        insertionOrder.add(key);
+        while (schemas.size() > MAX_CACHED_SCHEMAS) {
+            Key eldestKey = insertionOrder.poll();
+            if (eldestKey == null) {
+                break;
+            }
+            schemas.remove(eldestKey);
+        }
+    }
+
+    public static long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public static long getMissCount() {
+        return missCount.sum();
+    }
+
+    public static int size() {
+        return schemas.size();
+    }
+
+    public static void clear() {
+        schemas.clear();
+        insertionOrder.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    /**
+     * Cache key of a schema. Ballerina types are compared by identity since the runtime creates a single type
+     * instance for a type definition.
+     */
+    private static final class Key {
+        private final Type referredType;
+        private final SchemaOptions schemaOptions;
+
+        private Key(Type referredType, SchemaOptions schemaOptions) {
+            this.referredType = referredType;
+            this.schemaOptions = schemaOptions;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).referredType == referredType
+                    && ((Key) other).schemaOptions.equals(schemaOptions);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(referredType) + schemaOptions.hashCode();
+        }
+    }
+}
@@ -18,10 +18,14 @@
 
 package io.ballerina.stdlib.serdes;
 
+import com.google.protobuf.InvalidProtocolBufferException;
 import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
@@ -33,26 +37,37 @@ import io.ballerina.stdlib.serdes.protobuf.ProtobufMessageFieldBuilder;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import static com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import static com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import static com.google.protobuf.Descriptors.Descriptor;
 import static com.google.protobuf.Descriptors.DescriptorValidationException;
+import static com.google.protobuf.Descriptors.FileDescriptor;
 import static io.ballerina.stdlib.serdes.Constants.ARRAY_BUILDER_NAME;
-import static io.ballerina.stdlib.serdes.Constants.BYTES;
 import static io.ballerina.stdlib.serdes.Constants.DECIMAL_VALUE;
+import static io.ballerina.stdlib.serdes.Constants.DESCRIPTOR_SET_LOAD_FAILURE;
+import static io.ballerina.stdlib.serdes.Constants.DESERIALIZATION_PLAN;
 import static io.ballerina.stdlib.serdes.Constants.FAILED_WRITE_FILE;
 import static io.ballerina.stdlib.serdes.Constants.MAP_BUILDER;
+import static io.ballerina.stdlib.serdes.Constants.MESSAGE_NOT_FOUND;
+import static io.ballerina.stdlib.serdes.Constants.MISSING_DEPENDENCY;
 import static io.ballerina.stdlib.serdes.Constants.OPTIONAL_LABEL;
-import static io.ballerina.stdlib.serdes.Constants.PRECISION;
+import static io.ballerina.stdlib.serdes.Constants.PRECOMPILED_SCHEMA_LOAD_FAILURE;
 import static io.ballerina.stdlib.serdes.Constants.PROTO3;
-import static io.ballerina.stdlib.serdes.Constants.SCALE;
+import static io.ballerina.stdlib.serdes.Constants.REPEATED_LABEL;
 import static io.ballerina.stdlib.serdes.Constants.SCHEMA_GENERATION_FAILURE;
 import static io.ballerina.stdlib.serdes.Constants.SCHEMA_NAME;
+import static io.ballerina.stdlib.serdes.Constants.SERIALIZATION_PLAN;
+import static io.ballerina.stdlib.serdes.Constants.STRING;
+import static io.ballerina.stdlib.serdes.Constants.STRING_DICTIONARY;
+import static io.ballerina.stdlib.serdes.Constants.STRING_DICTIONARY_CONFLICT;
 import static io.ballerina.stdlib.serdes.Constants.TABLE_BUILDER;
 import static io.ballerina.stdlib.serdes.Constants.TUPLE_BUILDER;
-import static io.ballerina.stdlib.serdes.Constants.UINT32;
 import static io.ballerina.stdlib.serdes.Constants.UNION_BUILDER_NAME;
 import static io.ballerina.stdlib.serdes.Constants.UNSUPPORTED_DATA_TYPE;
-import static io.ballerina.stdlib.serdes.Constants.VALUE;
 import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
 import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
 
@@ -66,26 +81,139 @@ public class SchemaGenerator {
      *
      * @param serdes    Serializer or Deserializer object.
      * @param bTypedesc Data type that is being serialized.
+     * @param options   Options of the generated schema.
      * @return {@code BError}, if there are schema generation errors, null otherwise.
      */
     @SuppressWarnings("unused")
-    public static Object generateSchema(BObject serdes, BTypedesc bTypedesc) {
+    public static Object generateSchema(BObject serdes, BTypedesc bTypedesc, BMap<BString, Object> options) {
         try {
-            ProtobufFileBuilder protobufFile = new ProtobufFileBuilder();
-            ProtobufMessageBuilder protobufMessageBuilder = buildProtobufMessageFromBallerinaTypedesc(
-                    bTypedesc.getDescribingType());
-            Descriptor messageDescriptor = protobufFile.addMessageType(protobufMessageBuilder).build();
-            serdes.addNativeData(SCHEMA_NAME, messageDescriptor);
-            serdes.addNativeData(PROTO3, protobufFile.toString());
+            Type referredType = TypeUtils.getReferredType(bTypedesc.getDescribingType());
+            SchemaOptions schemaOptions = SchemaOptions.from(options);
+            GeneratedSchema schema = SchemaCache.get(referredType, schemaOptions);
+            if (schema == null) {
+                // Precompiled schemas are generated with the default options
+                schema = schemaOptions.isDefault() ? PrecompiledSchemas.load(referredType) : null;
+                if (schema == null) {
+                    schema = createSchema(referredType, schemaOptions);
+                }
+                SchemaCache.put(referredType, schemaOptions, schema);
+            }
+            addSchema(serdes, schema);
         } catch (BError ballerinaError) {
             return ballerinaError;
         } catch (DescriptorValidationException e) {
             String errorMessage = SCHEMA_GENERATION_FAILURE + e.getMessage();
             return createSerdesError(errorMessage, SERDES_ERROR);
+        } catch (InvalidProtocolBufferException e) {
+            String errorMessage = PRECOMPILED_SCHEMA_LOAD_FAILURE + e.getMessage();
+            return createSerdesError(errorMessage, SERDES_ERROR);
+        }
+        return null;
+    }
+
+    /**
+     * Loads the schema of a given data type from a serialized descriptor set and adds to native data. The schema is
+     * checked against the data type instead of generating the schema of the data type.
+     *
+     * @param serdes        Serializer or Deserializer object.
+     * @param bTypedesc     Data type that is being serialized.
+     * @param descriptorSet Serialized {@code FileDescriptorSet} containing the schema message.
+     * @return {@code BError}, if the schema can not be loaded or does not match the data type, null otherwise.
+     */
+    @SuppressWarnings("unused")
+    public static Object loadSchema(BObject serdes, BTypedesc bTypedesc, BArray descriptorSet) {
+        try {
+            Type referredType = TypeUtils.getReferredType(bTypedesc.getDescribingType());
+            FileDescriptorSet fileDescriptorSet = FileDescriptorSet.parseFrom(descriptorSet.getBytes());
+            Descriptor messageDescriptor = findMessageDescriptor(fileDescriptorSet, getMessageName(referredType));
+            GeneratedSchema schema = new GeneratedSchema(messageDescriptor,
+                    ProtobufFileBuilder.toProto3(messageDescriptor), referredType);
+            SchemaValidator.validate(schema.getDeserializationPlan());
+            addSchema(serdes, schema);
+        } catch (BError ballerinaError) {
+            return ballerinaError;
+        } catch (InvalidProtocolBufferException | DescriptorValidationException e) {
+            String errorMessage = DESCRIPTOR_SET_LOAD_FAILURE + e.getMessage();
+            return createSerdesError(errorMessage, SERDES_ERROR);
         }
         return null;
     }
 
+    /**
+     * Exports the schema as a serialized {@code FileDescriptorSet}.
+     *
+     * @param serdes Serializer or Deserializer object.
+     * @return Serialized descriptor set containing the file of the schema message.
+     */
+    @SuppressWarnings("unused")
+    public static BArray exportDescriptorSet(BObject serdes) {
+        Descriptor messageDescriptor = (Descriptor) serdes.getNativeData(SCHEMA_NAME);
+        FileDescriptorSet fileDescriptorSet = FileDescriptorSet.newBuilder()
+                .addFile(messageDescriptor.getFile().toProto()).build();
+        return ValueCreator.createArrayValue(fileDescriptorSet.toByteArray());
+    }
+
+    private static void addSchema(BObject serdes, GeneratedSchema schema) {
+        serdes.addNativeData(SCHEMA_NAME, schema.getMessageDescriptor());
+        serdes.addNativeData(SERIALIZATION_PLAN, schema.getSerializationPlan());
+        serdes.addNativeData(DESERIALIZATION_PLAN, schema.getDeserializationPlan());
+        serdes.addNativeData(PROTO3, schema.getProto3());
+    }
+
+    // Builds the files of the descriptor set in order, files may only depend on the files before them
+    private static Descriptor findMessageDescriptor(FileDescriptorSet fileDescriptorSet, String messageName)
+            throws DescriptorValidationException {
+        Map<String, FileDescriptor> fileDescriptors = new HashMap<>();
+        Descriptor messageDescriptor = null;
+        for (FileDescriptorProto fileDescriptorProto : fileDescriptorSet.getFileList()) {
+            FileDescriptor[] dependencies = new FileDescriptor[fileDescriptorProto.getDependencyCount()];
+            for (int i = 0; i < dependencies.length; i++) {
+                dependencies[i] = fileDescriptors.get(fileDescriptorProto.getDependency(i));
+                if (dependencies[i] == null) {
+                    throw createSerdesError(DESCRIPTOR_SET_LOAD_FAILURE + MISSING_DEPENDENCY
+                            + fileDescriptorProto.getDependency(i), SERDES_ERROR);
+                }
+            }
+            FileDescriptor fileDescriptor = FileDescriptor.buildFrom(fileDescriptorProto, dependencies);
+            fileDescriptors.put(fileDescriptorProto.getName(), fileDescriptor);
+            if (messageDescriptor == null) {
+                messageDescriptor = fileDescriptor.findMessageTypeByName(messageName);
+            }
+        }
+        if (messageDescriptor == null) {
+            throw createSerdesError(DESCRIPTOR_SET_LOAD_FAILURE + MESSAGE_NOT_FOUND + messageName, SERDES_ERROR);
+        }
+        return messageDescriptor;
+    }
+
+    /**
+     * Generates the schema of a data type without looking up the cached schemas.
+     *
+     * @param ballerinaType Data type that is being serialized.
+     * @return Generated schema of the data type.
+     * @throws DescriptorValidationException if the generated message definitions are not valid.
+     */
+    public static GeneratedSchema createSchema(Type ballerinaType) throws DescriptorValidationException {
+        return createSchema(ballerinaType, SchemaOptions.DEFAULT);
+    }
+
+    /**
+     * Generates the schema of a data type with the given options without looking up the cached schemas.
+     *
+     * @param ballerinaType Data type that is being serialized.
+     * @param schemaOptions Options of the generated schema.
+     * @return Generated schema of the data type.
+     * @throws DescriptorValidationException if the generated message definitions are not valid.
+     */
+    public static GeneratedSchema createSchema(Type ballerinaType, SchemaOptions schemaOptions)
+            throws DescriptorValidationException {
+        Type referredType = TypeUtils.getReferredType(ballerinaType);
+        ProtobufFileBuilder protobufFile = new ProtobufFileBuilder();
+        addProtobufMessagesFromBallerinaTypedesc(protobufFile, referredType, schemaOptions);
+        Descriptor messageDescriptor = protobufFile.build();
+        return new GeneratedSchema(messageDescriptor, protobufFile.toString(), referredType);
+    }
+
     @SuppressWarnings("unused")
     public static Object generateProtoFile(BObject serdes, BString filePath) {
         String filePathName = filePath.getValue();
@@ -99,78 +227,80 @@ public class SchemaGenerator {
         return null;
     }
 
-    private static ProtobufMessageBuilder buildProtobufMessageFromBallerinaTypedesc(Type ballerinaType) {
-        ProtobufMessageBuilder messageBuilder;
-        String messageName;
-
+    private static void addProtobufMessagesFromBallerinaTypedesc(ProtobufFileBuilder protobufFile,
+                                                                 Type ballerinaType, SchemaOptions schemaOptions) {
         Type referredType = TypeUtils.getReferredType(ballerinaType);
+        ProtobufMessageBuilder messageBuilder = new ProtobufMessageBuilder(getMessageName(referredType));
 
         switch (referredType.getTag()) {
             case TypeTags.INT_TAG:
             case TypeTags.BYTE_TAG:
             case TypeTags.FLOAT_TAG:
             case TypeTags.STRING_TAG:
-            case TypeTags.BOOLEAN_TAG: {
-                messageName = Utils.createMessageName(referredType.getName());
-                messageBuilder = new ProtobufMessageBuilder(messageName);
+            case TypeTags.BOOLEAN_TAG:
                 generateMessageDefinitionForPrimitiveType(messageBuilder, referredType);
+                protobufFile.addMessageType(messageBuilder);
                 break;
-            }
 
-            case TypeTags.DECIMAL_TAG: {
-                messageName = DECIMAL_VALUE;
-                messageBuilder = new ProtobufMessageBuilder(messageName);
-                generateMessageDefinitionForPrimitiveDecimal(messageBuilder);
+            case TypeTags.DECIMAL_TAG:
+                protobufFile.addMessageType(MessageType.generateDecimalMessageDefinition(schemaOptions));
                 break;
-            }
-
-            case TypeTags.UNION_TAG: {
-                messageName = UNION_BUILDER_NAME;
-                messageBuilder = new ProtobufMessageBuilder(messageName);
-                return new BallerinaStructuredTypeMessageGenerator(referredType,
-                        messageBuilder).generateMessageDefinition();
-            }
-
-            case TypeTags.ARRAY_TAG: {
-                messageName = ARRAY_BUILDER_NAME;
-                messageBuilder = new ProtobufMessageBuilder(messageName);
-                return new BallerinaStructuredTypeMessageGenerator(referredType,
-                        messageBuilder).generateMessageDefinition();
-            }
-
-            case TypeTags.RECORD_TYPE_TAG: {
-                messageName = referredType.getName();
-                messageBuilder = new ProtobufMessageBuilder(messageName);
-                return new BallerinaStructuredTypeMessageGenerator(referredType,
-                        messageBuilder).generateMessageDefinition();
-            }
 
-            case TypeTags.MAP_TAG: {
-                messageName = MAP_BUILDER;
-                messageBuilder = new ProtobufMessageBuilder(messageName);
-                return new BallerinaStructuredTypeMessageGenerator(referredType,
-                        messageBuilder).generateMessageDefinition();
-            }
-
-            case TypeTags.TABLE_TAG: {
-                messageName = TABLE_BUILDER;
-                messageBuilder = new ProtobufMessageBuilder(messageName);
-                return new BallerinaStructuredTypeMessageGenerator(referredType,
-                        messageBuilder).generateMessageDefinition();
-            }
+            default:
+                // Union, array, record, map, table and tuple types
+                BallerinaStructuredTypeMessageGenerator messageGenerator = new BallerinaStructuredTypeMessageGenerator(
+                        referredType, messageBuilder, schemaOptions);
+                ProtobufMessageBuilder generatedMessage = messageGenerator.generateMessageDefinition();
+                if (schemaOptions.isStringDictionary()) {
+                    addStringDictionaryField(generatedMessage);
+                }
+                protobufFile.addMessageType(generatedMessage);
+                // Decimal fields of all the nested messages refer to a single DecimalValue message of the file
+                if (messageGenerator.isDecimalMessageUsed()) {
+                    protobufFile.addSharedMessageType(MessageType.generateDecimalMessageDefinition(schemaOptions));
+                }
+        }
+    }
 
-            case TypeTags.TUPLE_TAG: {
-                messageName = TUPLE_BUILDER;
-                messageBuilder = new ProtobufMessageBuilder(messageName);
-                return new BallerinaStructuredTypeMessageGenerator(referredType,
-                        messageBuilder).generateMessageDefinition();
+    // String dictionary is the last field of the top level message, values are strings of the nested messages as well
+    private static void addStringDictionaryField(ProtobufMessageBuilder messageBuilder) {
+        int lastFieldNumber = 0;
+        for (FieldDescriptorProto field : messageBuilder.getProtobufMessage().getFieldList()) {
+            if (field.getName().equals(STRING_DICTIONARY)) {
+                throw createSerdesError(STRING_DICTIONARY_CONFLICT + STRING_DICTIONARY, SERDES_ERROR);
             }
+            lastFieldNumber = Math.max(lastFieldNumber, field.getNumber());
+        }
+        messageBuilder.addField(new ProtobufMessageFieldBuilder(REPEATED_LABEL, STRING, STRING_DICTIONARY,
+                lastFieldNumber + 1));
+    }
 
+    // Name of the top level message of the schema generated for a data type
+    private static String getMessageName(Type referredType) {
+        switch (referredType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return Utils.createMessageName(referredType.getName());
+            case TypeTags.DECIMAL_TAG:
+                return DECIMAL_VALUE;
+            case TypeTags.UNION_TAG:
+                return UNION_BUILDER_NAME;
+            case TypeTags.ARRAY_TAG:
+                return ARRAY_BUILDER_NAME;
+            case TypeTags.RECORD_TYPE_TAG:
+                return referredType.getName();
+            case TypeTags.MAP_TAG:
+                return MAP_BUILDER;
+            case TypeTags.TABLE_TAG:
+                return TABLE_BUILDER;
+            case TypeTags.TUPLE_TAG:
+                return TUPLE_BUILDER;
             default:
                 throw createSerdesError(UNSUPPORTED_DATA_TYPE + referredType.getName(), SERDES_ERROR);
         }
-
-        return messageBuilder;
     }
 
     // Generate schema for all ballerina primitive types except for decimal type
@@ -181,17 +311,4 @@ public class SchemaGenerator {
                 Constants.ATOMIC_FIELD_NAME, 1);
         messageBuilder.addField(messageField);
     }
-
-    // Generates schema for ballerina decimal type
-    private static void generateMessageDefinitionForPrimitiveDecimal(ProtobufMessageBuilder messageBuilder) {
-        // Java BigDecimal representation used for serializing ballerina decimal value
-        ProtobufMessageFieldBuilder scaleField = new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, UINT32, SCALE, 1);
-        ProtobufMessageFieldBuilder precisionField = new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, UINT32, PRECISION,
-                2);
-        ProtobufMessageFieldBuilder valueField = new ProtobufMessageFieldBuilder(OPTIONAL_LABEL, BYTES, VALUE, 3);
-
-        messageBuilder.addField(scaleField);
-        messageBuilder.addField(precisionField);
-        messageBuilder.addField(valueField);
-    }
 }
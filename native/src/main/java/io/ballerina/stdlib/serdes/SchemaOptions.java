@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+
+import static io.ballerina.stdlib.serdes.Constants.COLUMNAR_TABLES;
+import static io.ballerina.stdlib.serdes.Constants.COMPACT_DECIMALS;
+import static io.ballerina.stdlib.serdes.Constants.STRING_DICTIONARY_OPTION;
+
+/**
+ * {@link SchemaOptions} holds the options which change the shape of the schema generated for a data type. Schemas
+ * generated with different options are cached separately.
+ */
+public final class SchemaOptions {
+    public static final SchemaOptions DEFAULT = new SchemaOptions(false, false, false);
+
+    private final boolean compactDecimals;
+    private final boolean columnarTables;
+    private final boolean stringDictionary;
+
+    public SchemaOptions(boolean compactDecimals, boolean columnarTables, boolean stringDictionary) {
+        this.compactDecimals = compactDecimals;
+        this.columnarTables = columnarTables;
+        this.stringDictionary = stringDictionary;
+    }
+
+    /**
+     * Creates the schema options from a ballerina {@code serdes:SchemaOptions} record.
+     *
+     * @param options Options record passed to the schema.
+     * @return Schema options of the record.
+     */
+    public static SchemaOptions from(BMap<BString, Object> options) {
+        boolean compactDecimals = options.getBooleanValue(COMPACT_DECIMALS);
+        boolean columnarTables = options.getBooleanValue(COLUMNAR_TABLES);
+        boolean stringDictionary = options.getBooleanValue(STRING_DICTIONARY_OPTION);
+        SchemaOptions schemaOptions = new SchemaOptions(compactDecimals, columnarTables, stringDictionary);
+        return schemaOptions.isDefault() ? DEFAULT : schemaOptions;
+    }
+
+    // Decimal values fitting in 64 bits are encoded as a sint64 unscaled value instead of the unscaled value bytes
+    public boolean isCompactDecimals() {
+        return compactDecimals;
+    }
+
+    // Tables of records are encoded as a repeated field for each record field instead of a repeated row message
+    public boolean isColumnarTables() {
+        return columnarTables;
+    }
+
+    // String values are written once in a dictionary of the top level message and referred to by their index
+    public boolean isStringDictionary() {
+        return stringDictionary;
+    }
+
+    public boolean isDefault() {
+        return equals(DEFAULT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof SchemaOptions)) {
+            return false;
+        }
+        SchemaOptions otherOptions = (SchemaOptions) other;
+        return otherOptions.compactDecimals == compactDecimals && otherOptions.columnarTables == columnarTables
+                && otherOptions.stringDictionary == stringDictionary;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(compactDecimals, columnarTables, stringDictionary);
+    }
+}
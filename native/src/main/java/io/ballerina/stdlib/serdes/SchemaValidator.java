@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.serdes.DeserializationPlan.FieldEntry;
+import io.ballerina.stdlib.serdes.protobuf.DataTypeMapper;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static io.ballerina.stdlib.serdes.Constants.INCOMPATIBLE_SCHEMA;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+
+/**
+ * {@link SchemaValidator} class checks whether a schema which is not generated for a ballerina type, such as a
+ * schema loaded from a descriptor set, can be used to serialize and deserialize the values of the type.
+ * <p>
+ * The deserialization plan of the schema matches each message field to the ballerina type it is decoded to, so the
+ * plan is walked instead of generating the schema of the type and comparing the messages.
+ */
+public final class SchemaValidator {
+    private static final String MESSAGE_TYPE = "message";
+
+    private SchemaValidator() {
+    }
+
+    /**
+     * Validates the messages of a deserialization plan against the ballerina types of the plan.
+     *
+     * @param deserializationPlan Deserialization plan of the schema.
+     * @throws BError if a message does not match its ballerina type.
+     */
+    public static void validate(DeserializationPlan deserializationPlan) {
+        validate(deserializationPlan, false);
+    }
+
+    /**
+     * Validates the messages of a deserialization plan against the record types of a projection, which may leave out
+     * fields of the record messages.
+     *
+     * @param deserializationPlan Deserialization plan of the projection.
+     * @throws BError if a message does not match its ballerina type.
+     */
+    public static void validateProjection(DeserializationPlan deserializationPlan) {
+        validate(deserializationPlan, true);
+    }
+
+    private static void validate(DeserializationPlan deserializationPlan, boolean isProjection) {
+        // Strings are references to the string dictionary only if the top level message has a string dictionary
+        boolean hasStringDictionary = deserializationPlan.getStringDictionaryField() != null;
+        validate(deserializationPlan, hasStringDictionary, isProjection,
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static void validate(DeserializationPlan plan, boolean hasStringDictionary, boolean isProjection,
+                                 Set<DeserializationPlan> validatedPlans) {
+        if (!validatedPlans.add(plan)) {
+            // Recursive types share the plan of the outer message
+            return;
+        }
+        validateMessageFields(plan, isProjection);
+        for (int fieldNumber = 0; fieldNumber < plan.getFieldCount(); fieldNumber++) {
+            FieldEntry field = plan.getField(fieldNumber);
+            if (field != null) {
+                validateField(plan, field, hasStringDictionary, isProjection, validatedPlans);
+            }
+        }
+    }
+
+    // Checks that the fields needed to decode a value of the ballerina type are in the message
+    private static void validateMessageFields(DeserializationPlan plan, boolean isProjection) {
+        Type ballerinaType = plan.getBallerinaType();
+        Descriptor messageDescriptor = plan.getMessageDescriptor();
+        switch (ballerinaType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                for (String fieldName : ((RecordType) ballerinaType).getFields().keySet()) {
+                    requireField(messageDescriptor.findFieldByName(fieldName) != null, plan, fieldName);
+                }
+                if (!isProjection) {
+                    requireRecordFields(plan);
+                }
+                break;
+            case TypeTags.TUPLE_TAG:
+                int elementCount = ((TupleType) ballerinaType).getTupleTypes().size();
+                for (int fieldNumber = 1; fieldNumber <= elementCount; fieldNumber++) {
+                    requireField(plan.getField(fieldNumber) != null, plan, String.valueOf(fieldNumber));
+                }
+                break;
+            case TypeTags.ARRAY_TAG:
+                requireField(plan.getArrayField() != null, plan, Constants.ARRAY_FIELD_NAME);
+                break;
+            case TypeTags.MAP_TAG:
+                requireField(plan.getMapField() != null, plan, Constants.MAP_FIELD);
+                DeserializationPlan mapEntryPlan = plan.getMapField().getMessagePlan();
+                requireField(mapEntryPlan.getKeyField() != null, mapEntryPlan, Constants.KEY_NAME);
+                requireField(mapEntryPlan.getValueField() != null, mapEntryPlan, Constants.VALUE_NAME);
+                break;
+            case TypeTags.TABLE_TAG: {
+                Type rowType = TypeUtils.getReferredType(((TableType) ballerinaType).getConstrainedType());
+                if (plan.getTableEntryField() == null && rowType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                    // Columnar tables have a field for each record field
+                    for (String fieldName : ((RecordType) rowType).getFields().keySet()) {
+                        requireField(messageDescriptor.findFieldByName(fieldName) != null, plan, fieldName);
+                    }
+                    if (!isProjection) {
+                        requireRecordFields(plan);
+                    }
+                } else {
+                    requireField(plan.getTableEntryField() != null, plan, Constants.TABLE_ENTRY);
+                }
+                break;
+            }
+            case TypeTags.DECIMAL_TAG:
+                requireField(plan.getScaleField() != null, plan, Constants.SCALE);
+                requireField(plan.getValueField() != null, plan, Constants.VALUE);
+                if (plan.getUnscaledValueField() == null) {
+                    requireField(plan.getPrecisionField() != null, plan, Constants.PRECISION);
+                } else {
+                    // Compact decimal messages have signed scales and unscaled values
+                    requireFieldType(plan, plan.getScaleField(), FieldDescriptor.Type.SINT32);
+                    requireFieldType(plan, plan.getUnscaledValueField(), FieldDescriptor.Type.SINT64);
+                }
+                break;
+            case TypeTags.UNION_TAG:
+                for (Type memberType : ((UnionType) ballerinaType).getMemberTypes()) {
+                    String fieldName = UnionMessageType.mapMemberToFieldName(memberType).getKey();
+                    requireField(messageDescriptor.findFieldByName(fieldName) != null, plan, fieldName);
+                }
+                validateStringEnumValues(plan, (UnionType) ballerinaType);
+                break;
+            default:
+                requireField(plan.getAtomicField() != null, plan, Constants.ATOMIC_FIELD_NAME);
+                break;
+        }
+    }
+
+    private static void validateField(DeserializationPlan plan, FieldEntry field, boolean hasStringDictionary,
+                                      boolean isProjection, Set<DeserializationPlan> validatedPlans) {
+        Type referredType = field.getReferredType();
+        switch (field.getDecoder()) {
+            case SCALAR:
+                if (field.getMessagePlan() != null) {
+                    validate(field.getMessagePlan(), hasStringDictionary, isProjection, validatedPlans);
+                } else if (referredType != null && referredType.getTag() != TypeTags.DECIMAL_TAG) {
+                    validateFieldType(plan, field, referredType, hasStringDictionary);
+                }
+                break;
+            case ARRAY:
+                if (!field.isRepeated() && field.getFieldType() != FieldDescriptor.Type.BYTES) {
+                    throw createIncompatibleSchemaError(plan, field, "is not a repeated field");
+                }
+                if (field.getMessagePlan() != null) {
+                    validate(field.getMessagePlan(), hasStringDictionary, isProjection, validatedPlans);
+                } else {
+                    // Byte arrays are a single bytes field, the other arrays are repeated fields of their elements
+                    Type elementType = TypeUtils.getReferredType(((ArrayType) referredType).getElementType());
+                    validateFieldType(plan, field, elementType, hasStringDictionary);
+                }
+                break;
+            case MESSAGE:
+                DeserializationPlan messagePlan = field.getMessagePlan();
+                if (plan.getTypeTag() == TypeTags.MAP_TAG && field == plan.getMapField()) {
+                    // Map entries are validated with the map, their own type is the map type
+                    validateMapEntry(messagePlan, hasStringDictionary, isProjection, validatedPlans);
+                } else {
+                    validate(messagePlan, hasStringDictionary, isProjection, validatedPlans);
+                }
+                break;
+            default:
+                throw createIncompatibleSchemaError(plan, field,
+                        "does not match " + (referredType == null ? "any field of the type" : referredType));
+        }
+    }
+
+    private static void validateMapEntry(DeserializationPlan mapEntryPlan, boolean hasStringDictionary,
+                                         boolean isProjection, Set<DeserializationPlan> validatedPlans) {
+        if (!validatedPlans.add(mapEntryPlan)) {
+            return;
+        }
+        // Keys are decoded as strings, they have no ballerina type of their own in the plan
+        requireFieldType(mapEntryPlan, mapEntryPlan.getKeyField(),
+                hasStringDictionary ? FieldDescriptor.Type.UINT32 : FieldDescriptor.Type.STRING);
+        for (int fieldNumber = 0; fieldNumber < mapEntryPlan.getFieldCount(); fieldNumber++) {
+            FieldEntry field = mapEntryPlan.getField(fieldNumber);
+            if (field != null && field != mapEntryPlan.getKeyField()) {
+                validateField(mapEntryPlan, field, hasStringDictionary, isProjection, validatedPlans);
+            }
+        }
+    }
+
+    // Enum fields of string members have a value for every string value of the union
+    private static void validateStringEnumValues(DeserializationPlan plan, UnionType unionType) {
+        List<String> enumValues = UnionMessageType.getStringEnumValues(unionType);
+        if (enumValues == null) {
+            return;
+        }
+        for (int fieldNumber = 0; fieldNumber < plan.getFieldCount(); fieldNumber++) {
+            FieldEntry field = plan.getField(fieldNumber);
+            if (field == null || field.getFieldType() != FieldDescriptor.Type.ENUM) {
+                continue;
+            }
+            Set<String> definedValues = new HashSet<>();
+            for (EnumValueDescriptor enumValue : field.getFieldDescriptor().getEnumType().getValues()) {
+                BString value = field.getEnumValue(enumValue.getNumber());
+                if (value != null) {
+                    definedValues.add(value.getValue());
+                }
+            }
+            for (String enumValue : enumValues) {
+                if (!definedValues.contains(enumValue)) {
+                    throw createIncompatibleSchemaError(plan, field, "has no enum value " + enumValue);
+                }
+            }
+        }
+    }
+
+    // Scalar fields are encoded with the proto type of their ballerina type, strings may also be enum values or
+    // references to the string dictionary
+    private static void validateFieldType(DeserializationPlan plan, FieldEntry field, Type referredType,
+                                          boolean hasStringDictionary) {
+        if (referredType.getTag() == TypeTags.NULL_TAG || referredType.getTag() == TypeTags.STRING_TAG
+                && field.getFieldType() == FieldDescriptor.Type.ENUM) {
+            return;
+        }
+        String protoType = referredType.getTag() == TypeTags.STRING_TAG && hasStringDictionary ? Constants.UINT32
+                : DataTypeMapper.mapBallerinaTypeToProtoType(referredType.getTag());
+        String fieldType = field.getFieldType().name().toLowerCase(Locale.ENGLISH);
+        if (!fieldType.equals(protoType)) {
+            // Ballerina types without a proto type are encoded as messages
+            String expectedType = protoType == null ? MESSAGE_TYPE : protoType;
+            throw createIncompatibleSchemaError(plan, field, "is of type " + fieldType + ", not " + expectedType);
+        }
+    }
+
+    private static void requireFieldType(DeserializationPlan plan, FieldEntry field, FieldDescriptor.Type fieldType) {
+        if (field.getFieldType() != fieldType) {
+            throw createIncompatibleSchemaError(plan, field, "is of type "
+                    + field.getFieldType().name().toLowerCase(Locale.ENGLISH) + ", not "
+                    + fieldType.name().toLowerCase(Locale.ENGLISH));
+        }
+    }
+
+    // Fields of record messages which are not fields of the record type are only left out by projections
+    private static void requireRecordFields(DeserializationPlan plan) {
+        for (FieldDescriptor fieldDescriptor : plan.getMessageDescriptor().getFields()) {
+            if (plan.getField(fieldDescriptor.getNumber()) == null
+                    && fieldDescriptor != plan.getStringDictionaryField()) {
+                throw createSerdesError(INCOMPATIBLE_SCHEMA + "field " + fieldDescriptor.getName() + " of message "
+                        + plan.getMessageDescriptor().getName() + " does not match any field of the type",
+                        SERDES_ERROR);
+            }
+        }
+    }
+
+    private static void requireField(boolean isPresent, DeserializationPlan plan, String fieldName) {
+        if (!isPresent) {
+            throw createSerdesError(INCOMPATIBLE_SCHEMA + "message " + plan.getMessageDescriptor().getName()
+                    + " has no field " + fieldName, SERDES_ERROR);
+        }
+    }
+
+    private static BError createIncompatibleSchemaError(DeserializationPlan plan, FieldEntry field, String reason) {
+        return createSerdesError(INCOMPATIBLE_SCHEMA + "field " + field.getFieldDescriptor().getName()
+                + " of message " + plan.getMessageDescriptor().getName() + " " + reason, SERDES_ERROR);
+    }
+
+    /**
+     * Creates the error of a message field which can not be decoded into the ballerina type of its message. Plans of
+     * such messages can not be compiled, so the field is rejected while compiling the plan.
+     *
+     * @param fieldDescriptor Field descriptor of the message field.
+     * @param reason          Reason why the field does not match the ballerina type.
+     * @return {@code BError} of the incompatible schema.
+     */
+    static BError createIncompatibleFieldError(FieldDescriptor fieldDescriptor, String reason) {
+        return createSerdesError(INCOMPATIBLE_SCHEMA + "field " + fieldDescriptor.getName() + " of message "
+                + fieldDescriptor.getContainingType().getName() + " " + reason, SERDES_ERROR);
+    }
+}
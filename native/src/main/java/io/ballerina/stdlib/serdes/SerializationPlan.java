@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.WireFormat;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.FiniteType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.serdes.DeserializationPlan.FieldEntry;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.stdlib.serdes.Constants.ARRAY_FIELD_NAME;
+import static io.ballerina.stdlib.serdes.Constants.ATOMIC_FIELD_NAME;
+import static io.ballerina.stdlib.serdes.Constants.KEY_NAME;
+import static io.ballerina.stdlib.serdes.Constants.MAP_FIELD;
+import static io.ballerina.stdlib.serdes.Constants.PRECISION;
+import static io.ballerina.stdlib.serdes.Constants.SCALE;
+import static io.ballerina.stdlib.serdes.Constants.TABLE_ENTRY;
+import static io.ballerina.stdlib.serdes.Constants.UNSCALED_VALUE;
+import static io.ballerina.stdlib.serdes.Constants.VALUE_NAME;
+
+/**
+ * {@link SerializationPlan} class holds the field descriptors, tags and nested plans of a protobuf message, resolved
+ * once per schema so that values can be serialized without looking up fields by name.
+ */
+public final class SerializationPlan {
+    // Values of runtime types which are not union member types are resolved on every write once a union has this many
+    // resolved types
+    private static final int MAX_UNION_MEMBER_TYPES = 256;
+
+    private final Descriptor messageDescriptor;
+    private final FieldPlan[] fields;
+    private final FieldPlan[] fieldsByNumber;
+    private final Map<String, FieldPlan> fieldsByName;
+
+    // Fields with fixed names in the generated messages
+    private final FieldPlan atomicField;
+    private final FieldPlan arrayField;
+    private final FieldPlan mapField;
+    private final FieldPlan tableEntryField;
+    private final FieldPlan keyField;
+    private final FieldPlan valueField;
+    private final FieldPlan scaleField;
+    private final FieldPlan precisionField;
+    // Only the decimal messages of compact decimal schemas have an unscaled value field
+    private final FieldPlan unscaledValueField;
+    // Only the top level messages of schemas with string dictionaries have a string dictionary field
+    private final FieldPlan stringDictionaryField;
+
+    // Field types of the record type last serialized with this plan
+    private volatile RecordFieldTypes recordFieldTypes;
+    // Union members by the runtime types of their values, resolved from the member types when the plan is compiled.
+    // Other runtime types are added when they are first serialized, the map is replaced instead of being updated.
+    private volatile Map<Type, UnionMember> unionMembers = Collections.emptyMap();
+
+    private SerializationPlan(Descriptor messageDescriptor) {
+        this.messageDescriptor = messageDescriptor;
+        FieldDescriptor stringDictionaryDescriptor = Utils.getStringDictionaryField(messageDescriptor);
+        this.stringDictionaryField = stringDictionaryDescriptor == null ? null
+                : new FieldPlan(stringDictionaryDescriptor);
+        // String dictionary is written after the value, it is not one of the fields of the value
+        this.fields = messageDescriptor.getFields().stream()
+                .filter(fieldDescriptor -> fieldDescriptor != stringDictionaryDescriptor).map(FieldPlan::new)
+                .sorted(Comparator.comparingInt(FieldPlan::getNumber)).toArray(FieldPlan[]::new);
+
+        int maxFieldNumber = fields.length == 0 ? 0 : fields[fields.length - 1].getNumber();
+        this.fieldsByNumber = new FieldPlan[maxFieldNumber + 1];
+        this.fieldsByName = new HashMap<>();
+        for (FieldPlan field : fields) {
+            fieldsByNumber[field.getNumber()] = field;
+            fieldsByName.put(field.getFieldDescriptor().getName(), field);
+        }
+
+        this.atomicField = fieldsByName.get(ATOMIC_FIELD_NAME);
+        this.arrayField = fieldsByName.get(ARRAY_FIELD_NAME);
+        this.mapField = fieldsByName.get(MAP_FIELD);
+        this.tableEntryField = fieldsByName.get(TABLE_ENTRY);
+        this.keyField = fieldsByName.get(KEY_NAME);
+        this.valueField = fieldsByName.get(VALUE_NAME);
+        this.scaleField = fieldsByName.get(SCALE);
+        this.precisionField = fieldsByName.get(PRECISION);
+        this.unscaledValueField = fieldsByName.get(UNSCALED_VALUE);
+    }
+
+    /**
+     * Compiles the serialization plan of a message and all the messages nested in it. Union members are resolved from
+     * the ballerina types of the union messages in the deserialization plan of the same message.
+     *
+     * @param messageDescriptor   Message descriptor of the schema.
+     * @param deserializationPlan Deserialization plan of the message.
+     * @return Serialization plan of the message.
+     */
+    public static SerializationPlan compile(Descriptor messageDescriptor, DeserializationPlan deserializationPlan) {
+        Map<Descriptor, SerializationPlan> compiledPlans = new IdentityHashMap<>();
+        SerializationPlan plan = compile(messageDescriptor, compiledPlans);
+        resolveUnionMembers(deserializationPlan, compiledPlans, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return plan;
+    }
+
+    private static SerializationPlan compile(Descriptor messageDescriptor,
+                                             Map<Descriptor, SerializationPlan> compiledPlans) {
+        SerializationPlan plan = compiledPlans.get(messageDescriptor);
+        if (plan != null) {
+            // Recursive messages share the plan compiled for the outer message
+            return plan;
+        }
+        plan = new SerializationPlan(messageDescriptor);
+        compiledPlans.put(messageDescriptor, plan);
+        for (FieldPlan field : plan.fields) {
+            FieldDescriptor fieldDescriptor = field.getFieldDescriptor();
+            if (fieldDescriptor.getType() == FieldDescriptor.Type.MESSAGE) {
+                field.messagePlan = compile(fieldDescriptor.getMessageType(), compiledPlans);
+            }
+        }
+        return plan;
+    }
+
+    private static void resolveUnionMembers(DeserializationPlan typedPlan,
+                                            Map<Descriptor, SerializationPlan> compiledPlans,
+                                            Set<DeserializationPlan> resolvedPlans) {
+        if (!resolvedPlans.add(typedPlan)) {
+            return;
+        }
+        SerializationPlan plan = compiledPlans.get(typedPlan.getMessageDescriptor());
+        if (plan != null && typedPlan.getTypeTag() == TypeTags.UNION_TAG) {
+            Map<Type, UnionMember> members = new IdentityHashMap<>(plan.unionMembers);
+            for (Type memberType : ((UnionType) typedPlan.getBallerinaType()).getMemberTypes()) {
+                Type referredType = TypeUtils.getReferredType(memberType);
+                if (referredType.getTag() == TypeTags.FINITE_TYPE_TAG) {
+                    // Values of finite members have the types of the values in the value space
+                    for (Object value : ((FiniteType) referredType).getValueSpace()) {
+                        plan.addUnionMember(members, TypeUtils.getType(value));
+                    }
+                } else {
+                    plan.addUnionMember(members, referredType);
+                }
+            }
+            plan.unionMembers = members;
+        }
+        for (int fieldNumber = 0; fieldNumber < typedPlan.getFieldCount(); fieldNumber++) {
+            FieldEntry field = typedPlan.getField(fieldNumber);
+            if (field != null && field.getMessagePlan() != null) {
+                resolveUnionMembers(field.getMessagePlan(), compiledPlans, resolvedPlans);
+            }
+        }
+    }
+
+    private void addUnionMember(Map<Type, UnionMember> members, Type valueType) {
+        if (members.containsKey(valueType)) {
+            return;
+        }
+        try {
+            members.put(valueType, resolveUnionMember(valueType));
+        } catch (BError e) {
+            // Unsupported members are reported when a value of the member is serialized
+        }
+    }
+
+    private UnionMember resolveUnionMember(Type valueType) {
+        Map.Entry<String, Type> fieldNameAndReferredType = UnionMessageType.mapMemberToFieldName(valueType);
+        return new UnionMember(fieldsByName.get(fieldNameAndReferredType.getKey()),
+                fieldNameAndReferredType.getValue());
+    }
+
+    public Descriptor getMessageDescriptor() {
+        return messageDescriptor;
+    }
+
+    public FieldPlan[] getFields() {
+        return fields;
+    }
+
+    public FieldPlan getField(int fieldNumber) {
+        return fieldNumber < fieldsByNumber.length ? fieldsByNumber[fieldNumber] : null;
+    }
+
+    public FieldPlan getField(String fieldName) {
+        return fieldsByName.get(fieldName);
+    }
+
+    public FieldPlan getAtomicField() {
+        return atomicField;
+    }
+
+    public FieldPlan getArrayField() {
+        return arrayField;
+    }
+
+    public FieldPlan getMapField() {
+        return mapField;
+    }
+
+    public FieldPlan getTableEntryField() {
+        return tableEntryField;
+    }
+
+    public FieldPlan getKeyField() {
+        return keyField;
+    }
+
+    public FieldPlan getValueField() {
+        return valueField;
+    }
+
+    public FieldPlan getScaleField() {
+        return scaleField;
+    }
+
+    public FieldPlan getPrecisionField() {
+        return precisionField;
+    }
+
+    public FieldPlan getUnscaledValueField() {
+        return unscaledValueField;
+    }
+
+    public FieldPlan getStringDictionaryField() {
+        return stringDictionaryField;
+    }
+
+    /**
+     * Returns the referred types of the record fields in the order of the message fields. Fields which are not in the
+     * record type have a null type.
+     *
+     * @param recordType Record type of the value being serialized.
+     * @return Referred types of the record fields.
+     */
+    public Type[] getRecordFieldTypes(RecordType recordType) {
+        RecordFieldTypes cachedFieldTypes = recordFieldTypes;
+        if (cachedFieldTypes == null || cachedFieldTypes.recordType != recordType) {
+            cachedFieldTypes = new RecordFieldTypes(recordType, fields);
+            recordFieldTypes = cachedFieldTypes;
+        }
+        return cachedFieldTypes.fieldTypes;
+    }
+
+    /**
+     * Returns the union member of a value, looked up by the identity of the runtime type of the value. Runtime types
+     * which are not member types, such as array types of values created for other array types, are resolved when
+     * they are first serialized.
+     *
+     * @param valueType Runtime type of the value being serialized.
+     * @return Union member of the value.
+     */
+    public UnionMember getUnionMember(Type valueType) {
+        Map<Type, UnionMember> members = unionMembers;
+        UnionMember member = members.get(valueType);
+        if (member == null) {
+            member = resolveUnionMember(valueType);
+            if (members.size() < MAX_UNION_MEMBER_TYPES) {
+                // A member lost by a concurrent update is resolved again
+                Map<Type, UnionMember> updatedMembers = new IdentityHashMap<>(members);
+                updatedMembers.put(valueType, member);
+                unionMembers = updatedMembers;
+            }
+        }
+        return member;
+    }
+
+    /**
+     * {@link FieldPlan} class holds the resolved properties of a message field.
+     */
+    public static final class FieldPlan {
+        private static final int TAG_TYPE_BITS = 3;
+
+        private final FieldDescriptor fieldDescriptor;
+        private final FieldDescriptor.Type fieldType;
+        private final int number;
+        private final int tag;
+        private final int packedTag;
+        private final BString name;
+        private final boolean repeated;
+        private final boolean packed;
+        // Numbers of the string values of enum fields
+        private final Map<String, Integer> enumNumbers;
+        private SerializationPlan messagePlan;
+
+        private FieldPlan(FieldDescriptor fieldDescriptor) {
+            this.fieldDescriptor = fieldDescriptor;
+            this.fieldType = fieldDescriptor.getType();
+            this.number = fieldDescriptor.getNumber();
+            this.tag = makeTag(number, fieldDescriptor.getLiteType().getWireType());
+            this.packedTag = makeTag(number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            this.name = StringUtils.fromString(fieldDescriptor.getName());
+            this.repeated = fieldDescriptor.isRepeated();
+            this.packed = fieldDescriptor.isPacked();
+            this.enumNumbers = fieldType == FieldDescriptor.Type.ENUM ? getEnumNumbers(fieldDescriptor) : null;
+        }
+
+        private static Map<String, Integer> getEnumNumbers(FieldDescriptor fieldDescriptor) {
+            EnumDescriptor enumDescriptor = fieldDescriptor.getEnumType();
+            Map<String, Integer> enumNumbers = new HashMap<>();
+            for (EnumValueDescriptor enumValue : enumDescriptor.getValues()) {
+                String value = Utils.getEnumStringValue(enumDescriptor.getName(), enumValue.getName());
+                if (value != null) {
+                    enumNumbers.put(value, enumValue.getNumber());
+                }
+            }
+            return enumNumbers;
+        }
+
+        // Same encoding as WireFormat.makeTag, which is not accessible outside the protobuf package
+        private static int makeTag(int fieldNumber, int wireType) {
+            return (fieldNumber << TAG_TYPE_BITS) | wireType;
+        }
+
+        public FieldDescriptor getFieldDescriptor() {
+            return fieldDescriptor;
+        }
+
+        public FieldDescriptor.Type getFieldType() {
+            return fieldType;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public int getTag() {
+            return tag;
+        }
+
+        public int getPackedTag() {
+            return packedTag;
+        }
+
+        public BString getName() {
+            return name;
+        }
+
+        public boolean isRepeated() {
+            return repeated;
+        }
+
+        public boolean isPacked() {
+            return packed;
+        }
+
+        public SerializationPlan getMessagePlan() {
+            return messagePlan;
+        }
+
+        /**
+         * Returns the number of the enum value of a string value.
+         *
+         * @param value String value of the enum field.
+         * @return Number of the enum value.
+         * @throws IllegalArgumentException if the enum has no value for the string.
+         */
+        public int getEnumNumber(String value) {
+            Integer number = enumNumbers.get(value);
+            if (number == null) {
+                throw new IllegalArgumentException(value);
+            }
+            return number;
+        }
+    }
+
+    /**
+     * {@link UnionMember} class holds the message field and the referred type of a union member.
+     */
+    public static final class UnionMember {
+        private final FieldPlan field;
+        private final Type referredType;
+
+        private UnionMember(FieldPlan field, Type referredType) {
+            this.field = field;
+            this.referredType = referredType;
+        }
+
+        public FieldPlan getField() {
+            return field;
+        }
+
+        public Type getReferredType() {
+            return referredType;
+        }
+    }
+
+    private static final class RecordFieldTypes {
+        private final RecordType recordType;
+        private final Type[] fieldTypes;
+
+        private RecordFieldTypes(RecordType recordType, FieldPlan[] fields) {
+            this.recordType = recordType;
+            this.fieldTypes = new Type[fields.length];
+            Map<String, Field> recordTypeFields = recordType.getFields();
+            for (int i = 0; i < fields.length; i++) {
+                Field recordField = recordTypeFields.get(fields[i].getFieldDescriptor().getName());
+                fieldTypes[i] = recordField == null ? null : TypeUtils.getReferredType(recordField.getFieldType());
+            }
+        }
+    }
+}
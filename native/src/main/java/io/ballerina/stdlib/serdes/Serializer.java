@@ -18,31 +18,20 @@
 
 package io.ballerina.stdlib.serdes;
 
-import com.google.protobuf.Descriptors.Descriptor;
-import com.google.protobuf.Descriptors.FieldDescriptor;
-import com.google.protobuf.DynamicMessage;
-import com.google.protobuf.DynamicMessage.Builder;
-import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.utils.TypeUtils;
-import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
-import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 
-import java.math.BigDecimal;
+import java.io.IOException;
 
-import static io.ballerina.stdlib.serdes.Constants.ATOMIC_FIELD_NAME;
 import static io.ballerina.stdlib.serdes.Constants.BALLERINA_TYPEDESC_ATTRIBUTE_NAME;
-import static io.ballerina.stdlib.serdes.Constants.PRECISION;
-import static io.ballerina.stdlib.serdes.Constants.SCALE;
-import static io.ballerina.stdlib.serdes.Constants.SCHEMA_NAME;
+import static io.ballerina.stdlib.serdes.Constants.INVALID_OFFSET_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.READ_ONLY_TARGET_ERROR_MESSAGE;
 import static io.ballerina.stdlib.serdes.Constants.SERIALIZATION_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.SERIALIZATION_PLAN;
 import static io.ballerina.stdlib.serdes.Constants.TYPE_MISMATCH_ERROR_MESSAGE;
-import static io.ballerina.stdlib.serdes.Constants.UNSUPPORTED_DATA_TYPE;
-import static io.ballerina.stdlib.serdes.Constants.VALUE;
 import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
 import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
 
@@ -61,75 +50,57 @@ public class Serializer {
     @SuppressWarnings("unused")
     public static Object serialize(BObject ser, Object anydata) {
         BTypedesc bTypedesc = (BTypedesc) ser.get(BALLERINA_TYPEDESC_ATTRIBUTE_NAME);
-        Descriptor messageDescriptor = (Descriptor) ser.getNativeData(SCHEMA_NAME);
-        DynamicMessage dynamicMessage;
+        SerializationPlan serializationPlan = (SerializationPlan) ser.getNativeData(SERIALIZATION_PLAN);
+        byte[] encodedMessage;
         try {
-            dynamicMessage = buildDynamicMessageFromType(anydata, messageDescriptor,
-                    bTypedesc.getDescribingType()).build();
+            encodedMessage = ValueWriter.serialize(anydata, serializationPlan, bTypedesc.getDescribingType());
         } catch (BError ballerinaError) {
             return ballerinaError;
-        } catch (IllegalArgumentException e) {
-            String errorMessage = SERIALIZATION_ERROR_MESSAGE + TYPE_MISMATCH_ERROR_MESSAGE;
-            return createSerdesError(errorMessage, SERDES_ERROR);
+        } catch (IllegalArgumentException | ClassCastException e) {
+            return createTypeMismatchError();
+        } catch (IOException e) {
+            return createSerdesError(SERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
         }
-        return ValueCreator.createArrayValue(dynamicMessage.toByteArray());
+        return ValueCreator.createArrayValue(encodedMessage);
     }
 
-    private static Builder buildDynamicMessageFromType(Object anydata, Descriptor messageDescriptor,
-                                                       Type ballerinaType) {
-        Builder messageBuilder = DynamicMessage.newBuilder(messageDescriptor);
-        Type referredType = TypeUtils.getReferredType(ballerinaType);
-
-        switch (referredType.getTag()) {
-            case TypeTags.INT_TAG:
-            case TypeTags.FLOAT_TAG:
-            case TypeTags.BOOLEAN_TAG:
-                return generateMessageForPrimitiveType(messageBuilder, anydata);
-
-            case TypeTags.BYTE_TAG:
-                byte[] bytes = new byte[]{((Integer) anydata).byteValue()};
-                return generateMessageForPrimitiveType(messageBuilder, bytes);
-
-            case TypeTags.STRING_TAG:
-                String string = ((BString) anydata).getValue();
-                return generateMessageForPrimitiveType(messageBuilder, string);
-
-            case TypeTags.DECIMAL_TAG:
-                return generateMessageForPrimitiveDecimalType(messageBuilder, anydata);
-
-            case TypeTags.ARRAY_TAG:
-            case TypeTags.UNION_TAG:
-            case TypeTags.RECORD_TYPE_TAG:
-            case TypeTags.MAP_TAG:
-            case TypeTags.TABLE_TAG:
-            case TypeTags.TUPLE_TAG:
-                BallerinaStructuredTypeMessageSerializer structuredTypeMessageSerializer
-                        = new BallerinaStructuredTypeMessageSerializer(referredType, anydata, messageBuilder);
-                return structuredTypeMessageSerializer.generateMessage();
-
-            default:
-                throw createSerdesError(UNSUPPORTED_DATA_TYPE + referredType.getName(), SERDES_ERROR);
+    /**
+     * Serializes given data into a byte array starting from the given offset.
+     *
+     * @param ser     Serializer object.
+     * @param anydata Data that is being serialized.
+     * @param target  Byte array to which the serialized value is written.
+     * @param offset  Index of the target array from which the serialized value is written.
+     * @return Number of bytes written to the target array.
+     */
+    @SuppressWarnings("unused")
+    public static Object serializeInto(BObject ser, Object anydata, BArray target, long offset) {
+        if (target.getType().isReadOnly()) {
+            return createSerdesError(SERIALIZATION_ERROR_MESSAGE + READ_ONLY_TARGET_ERROR_MESSAGE, SERDES_ERROR);
+        }
+        int targetSize = target.size();
+        if (offset < 0 || offset > targetSize) {
+            return createSerdesError(SERIALIZATION_ERROR_MESSAGE + INVALID_OFFSET_ERROR_MESSAGE + offset, SERDES_ERROR);
         }
-    }
 
-    private static Builder generateMessageForPrimitiveType(Builder messageBuilder, Object fieldValue) {
-        Descriptor messageDescriptor = messageBuilder.getDescriptorForType();
-        FieldDescriptor fieldDescriptor = messageDescriptor.findFieldByName(ATOMIC_FIELD_NAME);
-        messageBuilder.setField(fieldDescriptor, fieldValue);
-        return messageBuilder;
+        BTypedesc bTypedesc = (BTypedesc) ser.get(BALLERINA_TYPEDESC_ATTRIBUTE_NAME);
+        SerializationPlan serializationPlan = (SerializationPlan) ser.getNativeData(SERIALIZATION_PLAN);
+        int writtenSize;
+        try {
+            // Encoded value is written straight into the backing array of the target
+            writtenSize = ValueWriter.serializeInto(anydata, serializationPlan, bTypedesc.getDescribingType(),
+                    target.getByteArray(), (int) offset, targetSize - (int) offset);
+        } catch (BError ballerinaError) {
+            return ballerinaError;
+        } catch (IllegalArgumentException | ClassCastException e) {
+            return createTypeMismatchError();
+        } catch (IOException e) {
+            return createSerdesError(SERIALIZATION_ERROR_MESSAGE + e.getMessage(), SERDES_ERROR);
+        }
+        return (long) writtenSize;
     }
 
-    private static Builder generateMessageForPrimitiveDecimalType(Builder messageBuilder, Object anydata) {
-        BigDecimal bigDecimal = ((BDecimal) anydata).decimalValue();
-
-        Descriptor decimalSchema = messageBuilder.getDescriptorForType();
-        FieldDescriptor scale = decimalSchema.findFieldByName(SCALE);
-        FieldDescriptor precision = decimalSchema.findFieldByName(PRECISION);
-        FieldDescriptor value = decimalSchema.findFieldByName(VALUE);
-
-        messageBuilder.setField(scale, bigDecimal.scale());
-        messageBuilder.setField(precision, bigDecimal.precision());
-        messageBuilder.setField(value, bigDecimal.unscaledValue().toByteArray());
-        return messageBuilder;
+    private static BError createTypeMismatchError() {
+        return createSerdesError(SERIALIZATION_ERROR_MESSAGE + TYPE_MISMATCH_ERROR_MESSAGE, SERDES_ERROR);
     }
 }
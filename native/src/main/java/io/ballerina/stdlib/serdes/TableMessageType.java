@@ -55,6 +55,23 @@ public class TableMessageType extends MessageType {
         super(ballerinaType, messageBuilder, messageGenerator);
     }
 
+    /**
+     * Creates the message type of a table. Tables of records use the columnar layout when columnar tables are enabled
+     * in the schema options.
+     *
+     * @param tableType        Table type of the message.
+     * @param messageBuilder   Builder of the table message.
+     * @param messageGenerator Message generator of the schema.
+     * @return Message type of the table.
+     */
+    public static MessageType create(TableType tableType, ProtobufMessageBuilder messageBuilder,
+                                     BallerinaStructuredTypeMessageGenerator messageGenerator) {
+        if (ColumnarTableMessageType.isColumnarTable(tableType, messageGenerator.getSchemaOptions())) {
+            return new ColumnarTableMessageType(tableType, messageBuilder, messageGenerator);
+        }
+        return new TableMessageType(tableType, messageBuilder, messageGenerator);
+    }
+
     @Override
     public void setIntField(IntegerType integerType) {
         throw new UnsupportedOperationException();
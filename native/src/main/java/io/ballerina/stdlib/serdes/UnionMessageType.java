@@ -29,21 +29,28 @@ import io.ballerina.runtime.api.types.TupleType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.serdes.protobuf.DataTypeMapper;
+import io.ballerina.stdlib.serdes.protobuf.ProtobufEnumBuilder;
 import io.ballerina.stdlib.serdes.protobuf.ProtobufMessageBuilder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static io.ballerina.stdlib.serdes.Constants.ARRAY_FIELD_NAME;
 import static io.ballerina.stdlib.serdes.Constants.BOOL;
 import static io.ballerina.stdlib.serdes.Constants.EMPTY_STRING;
+import static io.ballerina.stdlib.serdes.Constants.ENUM_UNSPECIFIED;
 import static io.ballerina.stdlib.serdes.Constants.MAP_MEMBER_NOT_YET_SUPPORTED;
 import static io.ballerina.stdlib.serdes.Constants.NIL;
 import static io.ballerina.stdlib.serdes.Constants.NULL_FIELD_NAME;
 import static io.ballerina.stdlib.serdes.Constants.OPTIONAL_LABEL;
 import static io.ballerina.stdlib.serdes.Constants.SEPARATOR;
+import static io.ballerina.stdlib.serdes.Constants.STRING_ENUM;
 import static io.ballerina.stdlib.serdes.Constants.TABLE_MEMBER_NOT_YET_SUPPORTED;
 import static io.ballerina.stdlib.serdes.Constants.TUPLE_BUILDER;
 import static io.ballerina.stdlib.serdes.Constants.TYPE_SEPARATOR;
@@ -120,17 +127,59 @@ public class UnionMessageType extends MessageType {
         throw createSerdesError(UNSUPPORTED_DATA_TYPE + referredType.getName(), SERDES_ERROR);
     }
 
+    /**
+     * Returns the sorted string values of the finite type members of a union, when the string values of the union are
+     * encoded as a proto3 enum. The values are numbered from 1 in the returned order, 0 is left for an unspecified
+     * value since proto3 does not write fields with the default value.
+     *
+     * @param unionType Ballerina union type.
+     * @return Sorted string values of the union, null if the union has a string member which is not a finite type.
+     */
+    public static List<String> getStringEnumValues(UnionType unionType) {
+        Set<String> values = new TreeSet<>();
+        for (Type memberType : unionType.getMemberTypes()) {
+            Type referredType = TypeUtils.getReferredType(memberType);
+            if (referredType.getTag() == TypeTags.STRING_TAG) {
+                return null;
+            }
+            if (referredType.getTag() == TypeTags.FINITE_TYPE_TAG) {
+                for (Object value : ((FiniteType) referredType).getValueSpace()) {
+                    if (value instanceof BString) {
+                        values.add(((BString) value).getValue());
+                    }
+                }
+            }
+        }
+        return values.isEmpty() ? null : new ArrayList<>(values);
+    }
+
     @Override
     public void setEnumField(FiniteType finiteType) {
         Type referredMemberType = TypeUtils.getType(finiteType.getEmptyValue());
         String protoType = DataTypeMapper.mapBallerinaTypeToProtoType(referredMemberType.getTag());
         if (referredMemberType.getTag() == TypeTags.DECIMAL_TAG) {
-            ProtobufMessageBuilder decimalMessageDefinition = generateDecimalMessageDefinition();
-            getMessageBuilder().addNestedMessage(decimalMessageDefinition);
+            protoType = getDecimalMessageType(getMessageBuilder());
+        } else if (referredMemberType.getTag() == TypeTags.STRING_TAG) {
+            List<String> enumValues = getStringEnumValues((UnionType) getBallerinaType());
+            if (enumValues != null) {
+                addStringEnumDefinition(enumValues);
+                protoType = STRING_ENUM;
+            } else {
+                protoType = getStringProtoType();
+            }
         }
         addMessageFieldInMessageBuilder(OPTIONAL_LABEL, protoType);
     }
 
+    private void addStringEnumDefinition(List<String> enumValues) {
+        ProtobufEnumBuilder enumBuilder = new ProtobufEnumBuilder(STRING_ENUM);
+        enumBuilder.addValue(STRING_ENUM + SEPARATOR + ENUM_UNSPECIFIED, 0);
+        for (int i = 0; i < enumValues.size(); i++) {
+            enumBuilder.addValue(Utils.createEnumValueName(STRING_ENUM, enumValues.get(i)), i + 1);
+        }
+        getMessageBuilder().addNestedEnum(enumBuilder);
+    }
+
     @Override
     public void setNullField(NullType nullType) {
         addMessageFieldInMessageBuilder(OPTIONAL_LABEL, BOOL);
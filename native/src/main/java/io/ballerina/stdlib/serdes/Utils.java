@@ -18,6 +18,8 @@
 
 package io.ballerina.stdlib.serdes;
 
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.TypeTags;
@@ -32,6 +34,8 @@ import io.ballerina.runtime.api.values.BError;
 import java.util.Locale;
 
 import static io.ballerina.stdlib.serdes.Constants.CURLY_BRACE;
+import static io.ballerina.stdlib.serdes.Constants.SEPARATOR;
+import static io.ballerina.stdlib.serdes.Constants.STRING_DICTIONARY;
 
 /**
  * Utility functions of SerDes module.
@@ -41,6 +45,7 @@ import static io.ballerina.stdlib.serdes.Constants.CURLY_BRACE;
 public class Utils {
 
     public static final String SERDES_ERROR = "Error";
+    private static final int ESCAPED_CHAR_LENGTH = 4;
     private static Module serdesModule = null;
 
     public static Module getModule() {
@@ -103,4 +108,89 @@ public class Utils {
         return ballerinaPrimitiveType.substring(0, 1).toUpperCase(Locale.ENGLISH) + ballerinaPrimitiveType.substring(1)
                 + Constants.VALUE_SUFFIX;
     }
+
+    /**
+     * Returns the string dictionary field of a message. Only top level messages have a string dictionary, a nested
+     * message may have a field of the same name which holds a record field.
+     *
+     * @param messageDescriptor Message descriptor of the schema.
+     * @return Field descriptor of the string dictionary, or null if the message has no string dictionary.
+     */
+    public static FieldDescriptor getStringDictionaryField(Descriptor messageDescriptor) {
+        if (messageDescriptor.getContainingType() != null) {
+            return null;
+        }
+        FieldDescriptor field = messageDescriptor.findFieldByName(STRING_DICTIONARY);
+        return field != null && field.isRepeated() && field.getType() == FieldDescriptor.Type.STRING ? field : null;
+    }
+
+    /**
+     * Creates the name of a proto3 enum value for a ballerina string value. Letters and digits are kept, underscores
+     * are doubled and the other characters are written as an underscore followed by four hex digits, so that the
+     * string value can be recovered from the name.
+     *
+     * @param enumName Name of the enum, enum values are prefixed with it to be unique in the enclosing message.
+     * @param value    Ballerina string value.
+     * @return Name of the enum value.
+     */
+    public static String createEnumValueName(String enumName, String value) {
+        StringBuilder valueName = new StringBuilder(enumName).append(SEPARATOR);
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (isAsciiLetterOrDigit(character)) {
+                valueName.append(character);
+            } else if (character == '_') {
+                valueName.append("__");
+            } else {
+                valueName.append(SEPARATOR).append(String.format(Locale.ENGLISH, "%04x", (int) character));
+            }
+        }
+        return valueName.toString();
+    }
+
+    /**
+     * Recovers the ballerina string value of a proto3 enum value created by {@link #createEnumValueName}.
+     *
+     * @param enumName  Name of the enum.
+     * @param valueName Name of the enum value.
+     * @return Ballerina string value, null if the name is not created for a string value.
+     */
+    public static String getEnumStringValue(String enumName, String valueName) {
+        String prefix = enumName + SEPARATOR;
+        if (!valueName.startsWith(prefix)) {
+            return null;
+        }
+        StringBuilder value = new StringBuilder();
+        int i = prefix.length();
+        while (i < valueName.length()) {
+            char character = valueName.charAt(i);
+            if (character != '_') {
+                value.append(character);
+                i++;
+            } else if (i + 1 < valueName.length() && valueName.charAt(i + 1) == '_') {
+                value.append('_');
+                i += 2;
+            } else if (i + ESCAPED_CHAR_LENGTH < valueName.length() && isHex(valueName, i + 1)) {
+                value.append((char) Integer.parseInt(valueName.substring(i + 1, i + ESCAPED_CHAR_LENGTH + 1), 16));
+                i += ESCAPED_CHAR_LENGTH + 1;
+            } else {
+                return null;
+            }
+        }
+        return value.toString();
+    }
+
+    private static boolean isHex(String valueName, int start) {
+        for (int i = start; i < start + ESCAPED_CHAR_LENGTH; i++) {
+            if (Character.digit(valueName.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z'
+                || character >= '0' && character <= '9';
+    }
 }
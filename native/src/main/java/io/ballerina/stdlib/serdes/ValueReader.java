@@ -0,0 +1,826 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.stdlib.serdes.DeserializationPlan.Decoder;
+import io.ballerina.stdlib.serdes.DeserializationPlan.FieldEntry;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static io.ballerina.stdlib.serdes.Constants.NULL_FIELD_NAME;
+import static io.ballerina.stdlib.serdes.Constants.UNSUPPORTED_DATA_TYPE;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+
+/**
+ * {@link ValueReader} decodes the protobuf wire format of the generated schema straight into ballerina values.
+ * <p>
+ * The decoded values are the same as the values built from a parsed {@code DynamicMessage}, absent fields take the
+ * proto3 default values and unknown fields are skipped. Fields are decoded through the {@link DeserializationPlan} of
+ * the schema.
+ * <p>
+ * Strings of schemas with string dictionaries are decoded from references to the string dictionary field of the top
+ * level message. The dictionary is read before the value, so every distinct string is created only once.
+ * <p>
+ * Elements of large top level arrays and row layout tables can be decoded in chunks on the pool of
+ * {@link Parallelism}. The offsets of the elements are found in a single pass over the top level message, the ranges
+ * of elements are decoded in parallel and the decoded elements are added to the array or the table in order.
+ */
+public final class ValueReader {
+
+    // Same nesting limit as the protobuf message parsers
+    private static final int RECURSION_LIMIT = 100;
+    private static final int FIXED64_SIZE = 8;
+    private static final BString EMPTY_STRING = StringUtils.fromString("");
+    private static final BString[] EMPTY_STRING_DICTIONARY = new BString[0];
+    // Every occurrence of a length delimited field takes at least a byte for the tag and a byte for the length
+    private static final int MIN_OCCURRENCE_SIZE = 2;
+    private static final int INITIAL_ELEMENT_CAPACITY = 1024;
+
+    private final CodedInputStream input;
+    // Encoded bytes of the input, packed fields are counted in place before they are read
+    private final byte[] encodedMessage;
+    private final int inputOffset;
+    private final int inputLength;
+    private int recursionDepth = 0;
+    private BString[] stringDictionary = EMPTY_STRING_DICTIONARY;
+
+    private ValueReader(byte[] encodedMessage, int offset, int length) {
+        this.input = CodedInputStream.newInstance(encodedMessage, offset, length);
+        // Single byte values are read from slices of the encoded bytes
+        this.input.enableAliasing(true);
+        this.encodedMessage = encodedMessage;
+        this.inputOffset = offset;
+        this.inputLength = length;
+    }
+
+    /**
+     * Decodes a ballerina value using the deserialization plan of the schema.
+     * <p>
+     * The encoded bytes are read in place, bytes of the decoded values are copied so the decoded values do not share
+     * the given array.
+     *
+     * @param encodedMessage      Array which holds the encoded bytes of the value.
+     * @param offset              Index of the first encoded byte in the array.
+     * @param length              Number of encoded bytes.
+     * @param deserializationPlan Deserialization plan of the schema.
+     * @return Decoded ballerina value.
+     * @throws IOException if the encoded bytes are not a valid message of the schema.
+     */
+    public static Object deserialize(byte[] encodedMessage, int offset, int length,
+                                     DeserializationPlan deserializationPlan) throws IOException {
+        ValueReader valueReader = new ValueReader(encodedMessage, offset, length);
+        FieldDescriptor stringDictionaryField = deserializationPlan.getStringDictionaryField();
+        if (stringDictionaryField != null) {
+            valueReader.stringDictionary = readStringDictionary(encodedMessage, offset, length,
+                    stringDictionaryField.getNumber());
+        }
+
+        switch (deserializationPlan.getTypeTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return valueReader.readAtomicField(deserializationPlan);
+
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TABLE_TAG:
+                if (Parallelism.getParallelism(length / MIN_OCCURRENCE_SIZE) != null) {
+                    Object value = readElementChunks(encodedMessage, offset, length, deserializationPlan,
+                            valueReader.stringDictionary);
+                    if (value != null) {
+                        return value;
+                    }
+                }
+                return valueReader.readMessageFields(deserializationPlan);
+
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TUPLE_TAG:
+                return valueReader.readMessageFields(deserializationPlan);
+
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + deserializationPlan.getBallerinaType().getName(),
+                        SERDES_ERROR);
+        }
+    }
+
+    // Decodes the elements of a top level array or row layout table in parallel, or returns null if the value does
+    // not have enough elements which are written as separate occurrences of the repeated field or the pool rejects the
+    // chunks. Packed arrays, byte arrays and columnar tables are always decoded by the calling thread.
+    @SuppressWarnings("unchecked")
+    private static Object readElementChunks(byte[] encodedMessage, int offset, int length,
+                                            DeserializationPlan valuePlan, BString[] stringDictionary)
+            throws IOException {
+        boolean isArray = valuePlan.getTypeTag() == TypeTags.ARRAY_TAG;
+        FieldEntry elementField = isArray ? valuePlan.getArrayField() : valuePlan.getTableEntryField();
+        if (elementField == null || elementField.isPackable()
+                || elementField.getFieldType() == FieldDescriptor.Type.BYTES) {
+            return null;
+        }
+
+        // Offsets of the tags of the elements, relative to the start of the top level message
+        int[] elementOffsets = new int[INITIAL_ELEMENT_CAPACITY];
+        int elementCount = 0;
+        ValueReader scanner = new ValueReader(encodedMessage, offset, length);
+        int tagOffset = 0;
+        int tag;
+        while ((tag = scanner.input.readTag()) != 0) {
+            if (scanner.readField(valuePlan, tag) == elementField) {
+                if (elementCount == elementOffsets.length) {
+                    elementOffsets = Arrays.copyOf(elementOffsets, elementCount * 2);
+                }
+                elementOffsets[elementCount++] = tagOffset;
+                scanner.input.skipField(tag);
+            }
+            tagOffset = scanner.input.getTotalBytesRead();
+        }
+        Parallelism parallelism = Parallelism.getParallelism(elementCount);
+        if (parallelism == null) {
+            return null;
+        }
+
+        Object[] elements = new Object[elementCount];
+        int chunkCount = parallelism.getChunkCount(elementCount);
+        List<Callable<Void>> chunkTasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = (int) ((long) elementCount * chunk / chunkCount);
+            int to = (int) ((long) elementCount * (chunk + 1) / chunkCount);
+            int chunkStart = elementOffsets[from];
+            int chunkEnd = to < elementCount ? elementOffsets[to] : length;
+            chunkTasks.add(() -> {
+                readElements(encodedMessage, offset + chunkStart, chunkEnd - chunkStart, valuePlan, elementField,
+                        stringDictionary, elements, from);
+                return null;
+            });
+        }
+        if (parallelism.invokeAll(chunkTasks) == null) {
+            return null;
+        }
+
+        if (isArray) {
+            BArray array = ValueCreator.createArrayValue(elementField.getArrayType(), elementCount);
+            for (int index = 0; index < elementCount; index++) {
+                array.add(index, elements[index]);
+            }
+            return array;
+        }
+        BTable table = ValueCreator.createTableValue((TableType) valuePlan.getBallerinaType());
+        for (Object row : elements) {
+            table.add(row);
+        }
+        return table;
+    }
+
+    // Decodes the elements of a range of the top level message into the elements array from the given index
+    private static void readElements(byte[] encodedMessage, int offset, int length, DeserializationPlan valuePlan,
+                                     FieldEntry elementField, BString[] stringDictionary, Object[] elements,
+                                     int elementIndex) throws IOException {
+        ValueReader valueReader = new ValueReader(encodedMessage, offset, length);
+        CodedInputStream input = valueReader.input;
+        valueReader.stringDictionary = stringDictionary;
+        int index = elementIndex;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (valueReader.readField(valuePlan, tag) == elementField) {
+                elements[index++] = valueReader.readElement(elementField);
+            }
+        }
+    }
+
+    /**
+     * Decodes one element of the repeated field of an array or a table message. Elements of packed fields are encoded
+     * scalar values, the other elements are the encoded values of single occurrences of the repeated field.
+     *
+     * @param encodedElement Array which holds the encoded bytes of the element.
+     * @param offset         Index of the first encoded byte in the array.
+     * @param length         Number of encoded bytes.
+     * @param repeatedField  Repeated field of the array or the table message.
+     * @return Decoded ballerina value of the element.
+     * @throws IOException if the encoded bytes are not a valid element of the repeated field.
+     */
+    public static Object deserializeElement(byte[] encodedElement, int offset, int length, FieldEntry repeatedField)
+            throws IOException {
+        ValueReader valueReader = new ValueReader(encodedElement, offset, length);
+        return valueReader.readElement(repeatedField);
+    }
+
+    // Reads a field of a top level message from the offset of its first occurrence, later occurrences of repeated
+    // fields are appended to the value read from the earlier ones
+    static Object deserializeField(byte[] encodedMessage, int offset, int length, FieldEntry field,
+                                   int occurrenceCount, BString[] stringDictionary) throws IOException {
+        ValueReader valueReader = new ValueReader(encodedMessage, offset, length);
+        CodedInputStream input = valueReader.input;
+        valueReader.stringDictionary = stringDictionary;
+        Object value = null;
+        int readCount = 0;
+        while (readCount < occurrenceCount) {
+            int tag = input.readTag();
+            if (WireFormat.getTagFieldNumber(tag) != field.getNumber()) {
+                input.skipField(tag);
+            } else if (valueReader.readField(field, tag) == field) {
+                value = valueReader.readFieldValue(field, tag, value);
+                readCount++;
+            }
+        }
+        return value;
+    }
+
+    // String dictionary is the last field written, the other fields of the top level message are skipped to find it
+    static BString[] readStringDictionary(byte[] encodedMessage, int offset, int length, int fieldNumber)
+            throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(encodedMessage, offset, length);
+        List<BString> dictionaryStrings = new ArrayList<>();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == fieldNumber
+                    && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                dictionaryStrings.add(StringUtils.fromString(input.readStringRequireUtf8()));
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return dictionaryStrings.toArray(EMPTY_STRING_DICTIONARY);
+    }
+
+    private Object readMessageFields(DeserializationPlan messagePlan) throws IOException {
+        switch (messagePlan.getTypeTag()) {
+            case TypeTags.DECIMAL_TAG:
+                return readDecimalFields(messagePlan);
+            case TypeTags.UNION_TAG:
+                return readUnionFields(messagePlan);
+            case TypeTags.ARRAY_TAG:
+                return readArrayFields(messagePlan);
+            case TypeTags.RECORD_TYPE_TAG:
+                return readRecordFields(messagePlan);
+            case TypeTags.MAP_TAG:
+                return readMapFields(messagePlan);
+            case TypeTags.TABLE_TAG:
+                return readTableFields(messagePlan);
+            case TypeTags.TUPLE_TAG:
+                return readTupleFields(messagePlan);
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + messagePlan.getBallerinaType().getName(),
+                        SERDES_ERROR);
+        }
+    }
+
+    private Object readAtomicField(DeserializationPlan messagePlan) throws IOException {
+        FieldEntry atomicField = messagePlan.getAtomicField();
+        Object value = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (readField(messagePlan, tag) == atomicField) {
+                value = readScalarValue(atomicField);
+            }
+        }
+        return value != null ? value : getDefaultFieldValue(atomicField);
+    }
+
+    private Object readDecimalFields(DeserializationPlan decimalPlan) throws IOException {
+        if (decimalPlan.getUnscaledValueField() != null) {
+            return readCompactDecimalFields(decimalPlan);
+        }
+        FieldEntry scaleField = decimalPlan.getScaleField();
+        FieldEntry precisionField = decimalPlan.getPrecisionField();
+        FieldEntry valueField = decimalPlan.getValueField();
+
+        int scale = 0;
+        int precision = 0;
+        byte[] value = new byte[0];
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldEntry field = readField(decimalPlan, tag);
+            if (field == scaleField) {
+                scale = input.readUInt32();
+            } else if (field == precisionField) {
+                precision = input.readUInt32();
+            } else if (field == valueField) {
+                value = input.readByteArray();
+            }
+        }
+
+        BigDecimal bigDecimal = new BigDecimal(new BigInteger(value), scale, new MathContext(precision));
+        return ValueCreator.createDecimalValue(bigDecimal);
+    }
+
+    // Values with a bytes field do not fit in 64 bits, the others are created from the long unscaled value
+    private Object readCompactDecimalFields(DeserializationPlan decimalPlan) throws IOException {
+        FieldEntry scaleField = decimalPlan.getScaleField();
+        FieldEntry unscaledValueField = decimalPlan.getUnscaledValueField();
+        FieldEntry valueField = decimalPlan.getValueField();
+
+        int scale = 0;
+        long unscaledValue = 0;
+        byte[] value = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldEntry field = readField(decimalPlan, tag);
+            if (field == scaleField) {
+                scale = input.readSInt32();
+            } else if (field == unscaledValueField) {
+                unscaledValue = input.readSInt64();
+            } else if (field == valueField) {
+                value = input.readByteArray();
+            }
+        }
+
+        BigDecimal bigDecimal = value == null ? BigDecimal.valueOf(unscaledValue, scale)
+                : new BigDecimal(new BigInteger(value), scale);
+        return ValueCreator.createDecimalValue(bigDecimal);
+    }
+
+    private Object readRecordFields(DeserializationPlan recordPlan) throws IOException {
+        // getEmptyValue method is used to set false value to boolean fields in the ballerina record
+        // protobuf doesn't serialize false value in the protobuf message
+        BMap<BString, Object> record = recordPlan.getBallerinaType().getEmptyValue();
+        Object[] repeatedFieldValues = null;
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldEntry field = readField(recordPlan, tag);
+            if (field == null) {
+                continue;
+            }
+            if (!field.isRepeated()) {
+                record.put(field.getKey(), readFieldValue(field, tag, null));
+                continue;
+            }
+            if (repeatedFieldValues == null) {
+                repeatedFieldValues = new Object[recordPlan.getFieldCount()];
+            }
+            Object value = readFieldValue(field, tag, repeatedFieldValues[field.getNumber()]);
+            repeatedFieldValues[field.getNumber()] = value;
+            record.put(field.getKey(), value);
+        }
+        return record;
+    }
+
+    private Object readMapFields(DeserializationPlan mapPlan) throws IOException {
+        BMap<BString, Object> ballerinaMap = ValueCreator.createMapValue((MapType) mapPlan.getBallerinaType());
+        FieldEntry mapField = mapPlan.getMapField();
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (readField(mapPlan, tag) != mapField) {
+                continue;
+            }
+            int oldLimit = beginNestedMessage();
+            readMapEntry(mapField.getMessagePlan(), ballerinaMap);
+            endNestedMessage(oldLimit);
+        }
+        return ballerinaMap;
+    }
+
+    private void readMapEntry(DeserializationPlan mapEntryPlan, BMap<BString, Object> ballerinaMap)
+            throws IOException {
+        FieldEntry keyField = mapEntryPlan.getKeyField();
+        FieldEntry valueField = mapEntryPlan.getValueField();
+        BString key = null;
+        Object value = null;
+        boolean hasValue = false;
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldEntry field = readField(mapEntryPlan, tag);
+            if (field == keyField) {
+                key = (BString) readScalarValue(keyField);
+            } else if (field == valueField) {
+                value = readFieldValue(valueField, tag, value);
+                hasValue = true;
+            }
+        }
+
+        if (key == null) {
+            key = (BString) getDefaultFieldValue(keyField);
+        }
+        if (!hasValue) {
+            value = getDefaultFieldValue(valueField);
+        }
+        ballerinaMap.put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readTableFields(DeserializationPlan tablePlan) throws IOException {
+        TableType tableType = (TableType) tablePlan.getBallerinaType();
+        BTable table = ValueCreator.createTableValue(tableType);
+        FieldEntry tableEntryField = tablePlan.getTableEntryField();
+        Type rowType = TypeUtils.getReferredType(tableType.getConstrainedType());
+        if (tableEntryField == null && rowType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            readTableColumns(tablePlan, rowType, table);
+            return table;
+        }
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (readField(tablePlan, tag) == tableEntryField) {
+                table.add(readFieldValue(tableEntryField, tag, null));
+            }
+        }
+        return table;
+    }
+
+    // Columns of columnar tables are read as arrays, the rows are created once all the columns are read
+    @SuppressWarnings("unchecked")
+    private void readTableColumns(DeserializationPlan tablePlan, Type rowType, BTable table) throws IOException {
+        BArray[] columns = new BArray[tablePlan.getFieldCount()];
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldEntry column = readField(tablePlan, tag);
+            if (column != null) {
+                columns[column.getNumber()] = (BArray) readFieldValue(column, tag, columns[column.getNumber()]);
+            }
+        }
+
+        int rowCount = -1;
+        for (int fieldNumber = 0; fieldNumber < columns.length; fieldNumber++) {
+            if (tablePlan.getField(fieldNumber) == null) {
+                continue;
+            }
+            int columnSize = columns[fieldNumber] == null ? 0 : columns[fieldNumber].size();
+            if (rowCount != -1 && columnSize != rowCount) {
+                throw new InvalidProtocolBufferException("Columns of table message "
+                        + tablePlan.getMessageDescriptor().getName() + " have different lengths");
+            }
+            rowCount = columnSize;
+        }
+
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            BMap<BString, Object> row = rowType.getEmptyValue();
+            for (int fieldNumber = 0; fieldNumber < columns.length; fieldNumber++) {
+                if (columns[fieldNumber] != null) {
+                    row.put(tablePlan.getField(fieldNumber).getKey(), columns[fieldNumber].get(rowIndex));
+                }
+            }
+            table.add(row);
+        }
+    }
+
+    private Object readTupleFields(DeserializationPlan tuplePlan) throws IOException {
+        BArray tuple = ValueCreator.createTupleValue((TupleType) tuplePlan.getBallerinaType());
+        Object[] repeatedFieldValues = null;
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldEntry field = readField(tuplePlan, tag);
+            if (field == null) {
+                continue;
+            }
+            // Tuple elements are numbered from one in the order of the tuple members
+            int elementIndex = field.getNumber() - 1;
+            if (!field.isRepeated()) {
+                tuple.add(elementIndex, readFieldValue(field, tag, null));
+                continue;
+            }
+            if (repeatedFieldValues == null) {
+                repeatedFieldValues = new Object[tuplePlan.getFieldCount()];
+            }
+            Object value = readFieldValue(field, tag, repeatedFieldValues[field.getNumber()]);
+            repeatedFieldValues[field.getNumber()] = value;
+            tuple.add(elementIndex, value);
+        }
+        return tuple;
+    }
+
+    private Object readUnionFields(DeserializationPlan unionPlan) throws IOException {
+        // Only the member with the lowest field number is used, same as the first entry of a parsed message
+        FieldEntry memberField = null;
+        Object memberValue = null;
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldEntry field = readField(unionPlan, tag);
+            if (field == null) {
+                continue;
+            }
+            if (memberField != null && field.getNumber() > memberField.getNumber()) {
+                input.skipField(tag);
+                continue;
+            }
+            Object previousValue = field == memberField ? memberValue : null;
+            Object value = readFieldValue(field, tag, previousValue);
+            if (field.isRepeated() || !isDefaultScalarValue(field, value)) {
+                memberField = field;
+                memberValue = value;
+            }
+        }
+
+        if (memberField == null) {
+            throw createSerdesError(UNSUPPORTED_DATA_TYPE + unionPlan.getBallerinaType().getName(), SERDES_ERROR);
+        }
+        return memberField.getFieldDescriptor().getName().equals(NULL_FIELD_NAME) ? null : memberValue;
+    }
+
+    private Object readArrayFields(DeserializationPlan arrayPlan) throws IOException {
+        FieldEntry arrayField = arrayPlan.getArrayField();
+        BArray array = null;
+
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (readField(arrayPlan, tag) == arrayField) {
+                array = readArrayField(arrayField, tag, array);
+            }
+        }
+        return array != null ? array : getDefaultFieldValue(arrayField);
+    }
+
+    // Reads one occurrence of an array field, elements of repeated fields are appended to the given array
+    private BArray readArrayField(FieldEntry field, int tag, BArray array) throws IOException {
+        if (field.getFieldType() == FieldDescriptor.Type.BYTES) {
+            // Byte arrays are encoded as a single bytes field instead of a repeated field
+            return ValueCreator.createArrayValue(input.readByteArray());
+        }
+
+        if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED && field.isPrimitiveArray()) {
+            return readPrimitiveArray(field, array);
+        }
+
+        BArray ballerinaArray = array != null ? array : ValueCreator.createArrayValue(field.getArrayType());
+
+        if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED && field.isPackable()) {
+            int oldLimit = input.pushLimit(input.readRawVarint32());
+            while (input.getBytesUntilLimit() > 0) {
+                ballerinaArray.append(readScalarValue(field));
+            }
+            input.popLimit(oldLimit);
+            return ballerinaArray;
+        }
+
+        ballerinaArray.append(readElement(field));
+        return ballerinaArray;
+    }
+
+    // Reads a single element of a repeated field, decimal values are messages which are read as scalar values
+    private Object readElement(FieldEntry repeatedField) throws IOException {
+        DeserializationPlan elementPlan = repeatedField.getMessagePlan();
+        if (elementPlan == null || elementPlan.getTypeTag() == TypeTags.DECIMAL_TAG) {
+            return readScalarValue(repeatedField);
+        }
+        return readNestedMessage(elementPlan);
+    }
+
+    // Packed int, float and boolean arrays are decoded into primitive arrays which back the ballerina arrays. Elements
+    // of previous occurrences of the field are copied to the front of the new primitive array, which is allocated once
+    // with the number of elements counted from the packed bytes.
+    private BArray readPrimitiveArray(FieldEntry field, BArray previousArray) throws IOException {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        int offset = previousArray != null ? previousArray.size() : 0;
+        int count = countPackedElements(field);
+        BArray ballerinaArray;
+        switch (field.getFieldType()) {
+            case SINT64:
+                ballerinaArray = ValueCreator.createArrayValue(readPackedInts(previousArray, offset, count));
+                break;
+            case DOUBLE:
+                ballerinaArray = ValueCreator.createArrayValue(readPackedFloats(previousArray, offset, count));
+                break;
+            default:
+                ballerinaArray = ValueCreator.createArrayValue(readPackedBooleans(previousArray, offset, count));
+                break;
+        }
+        input.popLimit(oldLimit);
+        return ballerinaArray;
+    }
+
+    // Elements are counted from the bytes of the packed field which are in the input, varints by the bytes without the
+    // continuation bit. A partial element at the end is counted as well, so reading it fails as a truncated message.
+    private int countPackedElements(FieldEntry field) {
+        int packedLength = input.getBytesUntilLimit();
+        // Limits are not checked against the end of the input, a packed field can be longer than the rest of it
+        int availableLength = Math.min(packedLength, inputLength - input.getTotalBytesRead());
+        int partialElement = availableLength < packedLength ? 1 : 0;
+        if (field.getFieldType() == FieldDescriptor.Type.DOUBLE) {
+            return availableLength / FIXED64_SIZE + (availableLength % FIXED64_SIZE != 0 ? 1 : partialElement);
+        }
+        int packedOffset = inputOffset + input.getTotalBytesRead();
+        int packedEnd = packedOffset + availableLength;
+        int count = 0;
+        for (int i = packedOffset; i < packedEnd; i++) {
+            if (encodedMessage[i] >= 0) {
+                count++;
+            }
+        }
+        return availableLength > 0 && encodedMessage[packedEnd - 1] < 0 ? count + 1 : count + partialElement;
+    }
+
+    private long[] readPackedInts(BArray previousArray, int offset, int count) throws IOException {
+        long[] values = new long[offset + count];
+        if (offset > 0) {
+            System.arraycopy(previousArray.getIntArray(), 0, values, 0, offset);
+        }
+        for (int i = offset; i < values.length; i++) {
+            values[i] = input.readSInt64();
+        }
+        return values;
+    }
+
+    private double[] readPackedFloats(BArray previousArray, int offset, int count) throws IOException {
+        double[] values = new double[offset + count];
+        if (offset > 0) {
+            System.arraycopy(previousArray.getFloatArray(), 0, values, 0, offset);
+        }
+        for (int i = offset; i < values.length; i++) {
+            values[i] = input.readDouble();
+        }
+        return values;
+    }
+
+    private boolean[] readPackedBooleans(BArray previousArray, int offset, int count) throws IOException {
+        boolean[] values = new boolean[offset + count];
+        if (offset > 0) {
+            System.arraycopy(previousArray.getBooleanArray(), 0, values, 0, offset);
+        }
+        for (int i = offset; i < values.length; i++) {
+            values[i] = input.readBool();
+        }
+        return values;
+    }
+
+    // Reads one occurrence of a message field, previous value is only used by repeated fields
+    private Object readFieldValue(FieldEntry field, int tag, Object previousValue) throws IOException {
+        switch (field.getDecoder()) {
+            case SCALAR:
+                return readScalarValue(field);
+            case ARRAY:
+                return readArrayField(field, tag, (BArray) previousValue);
+            case MESSAGE:
+                return readNestedMessage(field.getMessagePlan());
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + getTypeName(field.getReferredType()), SERDES_ERROR);
+        }
+    }
+
+    private Object readScalarValue(FieldEntry field) throws IOException {
+        switch (field.getFieldType()) {
+            case SINT64:
+                return input.readSInt64();
+            case DOUBLE:
+                return input.readDouble();
+            case BOOL:
+                return input.readBool();
+            case STRING:
+                return StringUtils.fromString(input.readStringRequireUtf8());
+            case ENUM:
+                return readEnumValue(field);
+            case UINT32:
+                return readStringReference();
+            case BYTES:
+                return input.readBytes().byteAt(0);
+            case MESSAGE:
+                // Decimal values are the only messages which are read as scalar values
+                return readNestedMessage(field.getMessagePlan());
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + field.getFieldType(), SERDES_ERROR);
+        }
+    }
+
+    private BString readEnumValue(FieldEntry field) throws IOException {
+        BString value = field.getEnumValue(input.readEnum());
+        if (value == null) {
+            throw new InvalidProtocolBufferException("Enum value is not defined in " + field.getFieldDescriptor()
+                    .getEnumType().getFullName());
+        }
+        return value;
+    }
+
+    // References are numbered from one, zero refers to the empty string
+    private BString readStringReference() throws IOException {
+        int reference = input.readUInt32();
+        if (reference == 0) {
+            return EMPTY_STRING;
+        }
+        if (reference < 0 || reference > stringDictionary.length) {
+            throw new InvalidProtocolBufferException("String reference is not defined in the string dictionary: "
+                    + Integer.toUnsignedString(reference));
+        }
+        return stringDictionary[reference - 1];
+    }
+
+    private Object readNestedMessage(DeserializationPlan nestedPlan) throws IOException {
+        int oldLimit = beginNestedMessage();
+        Object value = readMessageFields(nestedPlan);
+        endNestedMessage(oldLimit);
+        return value;
+    }
+
+    private int beginNestedMessage() throws IOException {
+        int length = input.readRawVarint32();
+        if (++recursionDepth > RECURSION_LIMIT) {
+            throw new InvalidProtocolBufferException("Protocol message had too many levels of nesting.  "
+                    + "May be malicious.  Use CodedInputStream.setRecursionLimit() to increase the depth limit.");
+        }
+        return input.pushLimit(length);
+    }
+
+    private void endNestedMessage(int oldLimit) throws InvalidProtocolBufferException {
+        input.checkLastTagWas(0);
+        input.popLimit(oldLimit);
+        recursionDepth--;
+    }
+
+    // Returns the entry of a known field or skips the field and returns null
+    private FieldEntry readField(DeserializationPlan messagePlan, int tag) throws IOException {
+        return readField(messagePlan.getField(WireFormat.getTagFieldNumber(tag)), tag);
+    }
+
+    private FieldEntry readField(FieldEntry field, int tag) throws IOException {
+        int wireType = WireFormat.getTagWireType(tag);
+        if (field != null && (wireType == field.getWireType()
+                || field.isPackable() && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED)) {
+            return field;
+        }
+        input.skipField(tag);
+        return null;
+    }
+
+    // Value of a field which is not present in the encoded message
+    private static Object getDefaultFieldValue(FieldEntry field) throws IOException {
+        if (field.getFieldType() == FieldDescriptor.Type.MESSAGE && !field.isRepeated()) {
+            ValueReader emptyMessageReader = new ValueReader(new byte[0], 0, 0);
+            return emptyMessageReader.readMessageFields(field.getMessagePlan());
+        }
+        if (field.getDecoder() == Decoder.ARRAY) {
+            if (field.getFieldType() == FieldDescriptor.Type.BYTES) {
+                return ValueCreator.createArrayValue(new byte[0]);
+            }
+            return ValueCreator.createArrayValue(field.getArrayType());
+        }
+
+        if (field.getFieldType() == FieldDescriptor.Type.UINT32) {
+            // String references are the only uint32 fields read as field values
+            return EMPTY_STRING;
+        }
+        Object defaultValue = field.getFieldDescriptor().getDefaultValue();
+        if (defaultValue instanceof ByteString) {
+            return ((ByteString) defaultValue).byteAt(0);
+        }
+        if (defaultValue instanceof String) {
+            return StringUtils.fromString((String) defaultValue);
+        }
+        return defaultValue;
+    }
+
+    // Proto3 singular fields with default values are treated as absent fields
+    private static boolean isDefaultScalarValue(FieldEntry field, Object value) {
+        switch (field.getFieldType()) {
+            case SINT64:
+                return (Long) value == 0;
+            case DOUBLE:
+                return Double.doubleToRawLongBits((Double) value) == 0;
+            case BOOL:
+                return !(Boolean) value;
+            case STRING:
+            case UINT32:
+                return ((BString) value).getValue().isEmpty();
+            default:
+                return false;
+        }
+    }
+
+    private static String getTypeName(Type type) {
+        return type == null ? null : type.getName();
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.FiniteType;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.stdlib.serdes.Constants.DESERIALIZATION_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.TYPE_MISMATCH_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+
+/**
+ * {@link ValueTypeChecker} class checks whether a deserialized value belongs to the type expected by the caller,
+ * such as the type of an extracted field, which is only known when the value is deserialized.
+ * <p>
+ * Deserialized values are anydata values, so simple values are checked against the type and structured values are
+ * checked member by member against the member types of the type.
+ */
+public final class ValueTypeChecker {
+    private static final long MAX_UNSIGNED8 = 255;
+    private static final long MAX_UNSIGNED16 = 65535;
+    private static final long MAX_UNSIGNED32 = 4294967295L;
+
+    private ValueTypeChecker() {
+    }
+
+    /**
+     * Returns a deserialized value if it belongs to the expected type.
+     *
+     * @param value        Deserialized value.
+     * @param expectedType Type expected by the caller.
+     * @return The deserialized value.
+     * @throws BError if the value does not belong to the expected type.
+     */
+    public static Object requireType(Object value, Type expectedType) {
+        if (!belongsTo(value, expectedType)) {
+            throw createSerdesError(DESERIALIZATION_ERROR_MESSAGE + TYPE_MISMATCH_ERROR_MESSAGE
+                    + ", value is not of type " + expectedType, SERDES_ERROR);
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether a deserialized value belongs to a type.
+     *
+     * @param value Deserialized value.
+     * @param type  Ballerina type.
+     * @return true if the value belongs to the type.
+     */
+    public static boolean belongsTo(Object value, Type type) {
+        Type referredType = TypeUtils.getReferredType(type);
+        if (referredType.isReadOnly() && value instanceof BRefValue && !((BRefValue) value).isFrozen()) {
+            return false;
+        }
+        switch (referredType.getTag()) {
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.ANY_TAG:
+            case TypeTags.READONLY_TAG:
+                return true;
+            case TypeTags.JSON_TAG:
+                return isJson(value);
+            case TypeTags.NULL_TAG:
+                return value == null;
+            case TypeTags.BOOLEAN_TAG:
+                return value instanceof Boolean;
+            case TypeTags.INT_TAG:
+                return isInt(value);
+            case TypeTags.BYTE_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                return isIntInRange(value, 0, MAX_UNSIGNED8);
+            case TypeTags.UNSIGNED16_INT_TAG:
+                return isIntInRange(value, 0, MAX_UNSIGNED16);
+            case TypeTags.UNSIGNED32_INT_TAG:
+                return isIntInRange(value, 0, MAX_UNSIGNED32);
+            case TypeTags.SIGNED8_INT_TAG:
+                return isIntInRange(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            case TypeTags.SIGNED16_INT_TAG:
+                return isIntInRange(value, Short.MIN_VALUE, Short.MAX_VALUE);
+            case TypeTags.SIGNED32_INT_TAG:
+                return isIntInRange(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case TypeTags.FLOAT_TAG:
+                return value instanceof Double;
+            case TypeTags.DECIMAL_TAG:
+                return value instanceof BDecimal;
+            case TypeTags.STRING_TAG:
+                return value instanceof BString;
+            case TypeTags.CHAR_STRING_TAG:
+                return value instanceof BString && ((BString) value).length() == 1;
+            case TypeTags.FINITE_TYPE_TAG:
+                return isInValueSpace(value, (FiniteType) referredType);
+            case TypeTags.UNION_TAG:
+                for (Type memberType : ((UnionType) referredType).getMemberTypes()) {
+                    if (belongsTo(value, memberType)) {
+                        return true;
+                    }
+                }
+                return false;
+            case TypeTags.INTERSECTION_TAG:
+                return belongsTo(value, ((IntersectionType) referredType).getEffectiveType());
+            case TypeTags.ARRAY_TAG:
+                return isArrayOf(value, (ArrayType) referredType);
+            case TypeTags.TUPLE_TAG:
+                return isTupleOf(value, (TupleType) referredType);
+            case TypeTags.MAP_TAG:
+                return isMapOf(value, ((MapType) referredType).getConstrainedType());
+            case TypeTags.RECORD_TYPE_TAG:
+                return isRecordOf(value, (RecordType) referredType);
+            case TypeTags.TABLE_TAG:
+                return isTableOf(value, ((TableType) referredType).getConstrainedType());
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isIntInRange(Object value, long min, long max) {
+        if (!isInt(value)) {
+            return false;
+        }
+        long intValue = toLong(value);
+        return intValue >= min && intValue <= max;
+    }
+
+    private static boolean isInValueSpace(Object value, FiniteType finiteType) {
+        for (Object member : finiteType.getValueSpace()) {
+            if (member == null) {
+                if (value == null) {
+                    return true;
+                }
+            } else if (member.equals(value) || isInt(member) && isInt(value) && toLong(member) == toLong(value)) {
+                // Int values of the value space may be boxed as a different type than the deserialized values
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInt(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Byte;
+    }
+
+    // Byte values are read as java bytes, the other int values as longs
+    private static long toLong(Object intValue) {
+        return intValue instanceof Byte ? Byte.toUnsignedLong((Byte) intValue) : ((Number) intValue).longValue();
+    }
+
+    private static boolean isArrayOf(Object value, ArrayType arrayType) {
+        if (!(value instanceof BArray)) {
+            return false;
+        }
+        BArray array = (BArray) value;
+        if (arrayType.getSize() >= 0 && array.size() != arrayType.getSize()) {
+            return false;
+        }
+        Type elementType = arrayType.getElementType();
+        for (int i = 0; i < array.size(); i++) {
+            if (!belongsTo(array.get(i), elementType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTupleOf(Object value, TupleType tupleType) {
+        if (!(value instanceof BArray)) {
+            return false;
+        }
+        BArray array = (BArray) value;
+        List<Type> memberTypes = tupleType.getTupleTypes();
+        Type restType = tupleType.getRestType();
+        if (array.size() < memberTypes.size() || restType == null && array.size() > memberTypes.size()) {
+            return false;
+        }
+        for (int i = 0; i < array.size(); i++) {
+            Type memberType = i < memberTypes.size() ? memberTypes.get(i) : restType;
+            if (!belongsTo(array.get(i), memberType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMapOf(Object value, Type constrainedType) {
+        if (!(value instanceof BMap)) {
+            return false;
+        }
+        BMap<?, ?> map = (BMap<?, ?>) value;
+        for (Object memberValue : map.values()) {
+            if (!belongsTo(memberValue, constrainedType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRecordOf(Object value, RecordType recordType) {
+        if (!(value instanceof BMap)) {
+            return false;
+        }
+        BMap<?, ?> map = (BMap<?, ?>) value;
+        Map<String, Field> fields = recordType.getFields();
+        for (Map.Entry<String, Field> field : fields.entrySet()) {
+            if (!map.containsKey(StringUtils.fromString(field.getKey()))
+                    && !SymbolFlags.isFlagOn(field.getValue().getFlags(), SymbolFlags.OPTIONAL)) {
+                return false;
+            }
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Field field = fields.get(entry.getKey().toString());
+            Type fieldType = field != null ? field.getFieldType()
+                    : recordType.isSealed() ? null : recordType.getRestFieldType();
+            if (fieldType == null || !belongsTo(entry.getValue(), fieldType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTableOf(Object value, Type constrainedType) {
+        if (!(value instanceof BTable)) {
+            return false;
+        }
+        for (Object row : ((BTable<?, ?>) value).values()) {
+            if (!belongsTo(row, constrainedType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Json values are anydata values without tables
+    private static boolean isJson(Object value) {
+        if (value instanceof BTable) {
+            return false;
+        }
+        if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            for (int i = 0; i < array.size(); i++) {
+                if (!isJson(array.get(i))) {
+                    return false;
+                }
+            }
+        } else if (value instanceof BMap) {
+            for (Object memberValue : ((BMap<?, ?>) value).values()) {
+                if (!isJson(memberValue)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
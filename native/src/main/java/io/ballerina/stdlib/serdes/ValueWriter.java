@@ -0,0 +1,993 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.stdlib.serdes.SerializationPlan.FieldPlan;
+import io.ballerina.stdlib.serdes.SerializationPlan.UnionMember;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.IntFunction;
+
+import static io.ballerina.stdlib.serdes.Constants.INSUFFICIENT_SPACE_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.NIL;
+import static io.ballerina.stdlib.serdes.Constants.SERIALIZATION_ERROR_MESSAGE;
+import static io.ballerina.stdlib.serdes.Constants.UNSUPPORTED_DATA_TYPE;
+import static io.ballerina.stdlib.serdes.Utils.SERDES_ERROR;
+import static io.ballerina.stdlib.serdes.Utils.createSerdesError;
+
+/**
+ * {@link ValueWriter} encodes ballerina values straight into the protobuf wire format of the generated schema.
+ * <p>
+ * Fields are written in field number order and proto3 default values of singular scalar fields are skipped, so the
+ * encoded bytes are the same as the bytes of the equivalent {@code DynamicMessage}. Field descriptors and tags are
+ * taken from the {@link SerializationPlan} of the schema.
+ * <p>
+ * Values are written in two passes over the same writers. The first pass only computes the exact size of the encoded
+ * value and the lengths of nested messages and packed fields, the second pass writes the value into an array of that
+ * size using the computed lengths.
+ * <p>
+ * Strings of schemas with string dictionaries are written as references to the distinct strings of the value, which
+ * are written once in the string dictionary field of the top level message. References are numbered from one in the
+ * order the strings are first written, so zero refers to the empty string.
+ * <p>
+ * Elements of large top level arrays and row layout tables can be encoded in chunks on the pool of
+ * {@link Parallelism}. Each chunk is encoded by its own writer and the encoded chunks are concatenated, which gives
+ * the same bytes as the sequential encoding since the occurrences of a repeated field are written one after another.
+ */
+public final class ValueWriter {
+    private static final int FIXED64_SIZE = 8;
+    private static final int INITIAL_LENGTHS_CAPACITY = 64;
+    // Length buffers grown by large values are not kept for the next value written by the thread
+    private static final int MAX_POOLED_LENGTHS_CAPACITY = 4096;
+    private static final ThreadLocal<int[]> POOLED_LENGTHS = new ThreadLocal<>();
+    // Unscaled values with up to 18 digits always fit in a long
+    private static final int MAX_LONG_DECIMAL_PRECISION = 18;
+
+    // Lengths of nested messages and packed fields in the order they are written
+    private int[] lengths;
+    private int lengthCount = 0;
+    private int lengthIndex = 0;
+    // Output of the second pass, the first pass only adds up the encoded size while the output is not set
+    private CodedOutputStream output = null;
+    private int size = 0;
+    // Distinct strings of the value in the order of their references, both passes write the same references
+    private Map<String, Integer> stringReferences = null;
+    private List<String> dictionaryStrings = null;
+    // Encoded chunks of the elements of a top level array or table, encoded in the first pass and copied in the second
+    private List<byte[]> encodedChunks = null;
+
+    private ValueWriter() {
+        int[] pooledLengths = POOLED_LENGTHS.get();
+        if (pooledLengths != null) {
+            // Taken out of the pool until the value is written
+            POOLED_LENGTHS.set(null);
+            this.lengths = pooledLengths;
+        } else {
+            this.lengths = new int[INITIAL_LENGTHS_CAPACITY];
+        }
+    }
+
+    /**
+     * Encodes a ballerina value using the serialization plan of the schema generated for the given type.
+     *
+     * @param anydata           Value that is being serialized.
+     * @param serializationPlan Serialization plan of the schema.
+     * @param ballerinaType     Data type of the schema.
+     * @return Encoded bytes of the value.
+     * @throws IOException if the value can not be written.
+     */
+    public static byte[] serialize(Object anydata, SerializationPlan serializationPlan, Type ballerinaType)
+            throws IOException {
+        Type referredType = TypeUtils.getReferredType(ballerinaType);
+        ValueWriter valueWriter = new ValueWriter();
+        try {
+            byte[] encodedMessage = new byte[valueWriter.computeSize(anydata, serializationPlan, referredType)];
+            CodedOutputStream output = CodedOutputStream.newInstance(encodedMessage);
+            valueWriter.writeTo(output, anydata, serializationPlan, referredType);
+            return encodedMessage;
+        } finally {
+            valueWriter.release();
+        }
+    }
+
+    /**
+     * Encodes a ballerina value into the given range of an existing byte array.
+     *
+     * @param anydata           Value that is being serialized.
+     * @param serializationPlan Serialization plan of the schema.
+     * @param ballerinaType     Data type of the schema.
+     * @param target            Byte array to which the encoded value is written.
+     * @param offset            Index of the target array from which the encoded value is written.
+     * @param length            Number of bytes available in the target array from the offset.
+     * @return Number of bytes written to the target array.
+     * @throws IOException if the value can not be written.
+     */
+    public static int serializeInto(Object anydata, SerializationPlan serializationPlan, Type ballerinaType,
+                                    byte[] target, int offset, int length) throws IOException {
+        Type referredType = TypeUtils.getReferredType(ballerinaType);
+        ValueWriter valueWriter = new ValueWriter();
+        try {
+            int encodedSize = valueWriter.computeSize(anydata, serializationPlan, referredType);
+            if (encodedSize > length) {
+                throw createSerdesError(SERIALIZATION_ERROR_MESSAGE + INSUFFICIENT_SPACE_ERROR_MESSAGE + encodedSize,
+                        SERDES_ERROR);
+            }
+            CodedOutputStream output = CodedOutputStream.newInstance(target, offset, encodedSize);
+            valueWriter.writeTo(output, anydata, serializationPlan, referredType);
+            return encodedSize;
+        } finally {
+            valueWriter.release();
+        }
+    }
+
+    /**
+     * Encodes a ballerina value as a length delimited message at the end of a message buffer. The encoded value is
+     * prefixed with its length as a varint.
+     *
+     * @param anydata           Value that is being serialized.
+     * @param serializationPlan Serialization plan of the schema.
+     * @param ballerinaType     Data type of the schema.
+     * @param messageBuffer     Buffer to which the message is appended.
+     * @throws IOException if the value can not be written.
+     */
+    public static void serializeDelimited(Object anydata, SerializationPlan serializationPlan, Type ballerinaType,
+                                          DelimitedMessageBuffer messageBuffer) throws IOException {
+        Type referredType = TypeUtils.getReferredType(ballerinaType);
+        ValueWriter valueWriter = new ValueWriter();
+        try {
+            int encodedSize = valueWriter.computeSize(anydata, serializationPlan, referredType);
+            int messageSize = CodedOutputStream.computeUInt32SizeNoTag(encodedSize) + encodedSize;
+            byte[] buffer = messageBuffer.reserve(messageSize);
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer, messageBuffer.getEnd(), messageSize);
+            output.writeUInt32NoTag(encodedSize);
+            valueWriter.writeTo(output, anydata, serializationPlan, referredType);
+            messageBuffer.addLength(messageSize);
+        } finally {
+            valueWriter.release();
+        }
+    }
+
+    private int computeSize(Object anydata, SerializationPlan serializationPlan, Type referredType) throws IOException {
+        writeValue(anydata, serializationPlan, referredType);
+        return size;
+    }
+
+    private void writeTo(CodedOutputStream output, Object anydata, SerializationPlan serializationPlan,
+                         Type referredType) throws IOException {
+        this.output = output;
+        writeValue(anydata, serializationPlan, referredType);
+        output.checkNoSpaceLeft();
+    }
+
+    private void release() {
+        if (lengths.length <= MAX_POOLED_LENGTHS_CAPACITY) {
+            POOLED_LENGTHS.set(lengths);
+        }
+    }
+
+    private void writeValue(Object anydata, SerializationPlan serializationPlan, Type referredType) throws IOException {
+        switch (referredType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                writeFieldValue(serializationPlan.getAtomicField(), referredType, anydata);
+                break;
+
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TABLE_TAG:
+                if (!writeElementChunks(serializationPlan, referredType.getTag(), anydata)) {
+                    writeMessageFields(serializationPlan, referredType.getTag(), anydata);
+                }
+                break;
+
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TUPLE_TAG:
+                writeMessageFields(serializationPlan, referredType.getTag(), anydata);
+                break;
+
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + referredType.getName(), SERDES_ERROR);
+        }
+        FieldPlan stringDictionaryField = serializationPlan.getStringDictionaryField();
+        if (stringDictionaryField != null && dictionaryStrings != null) {
+            for (String dictionaryString : dictionaryStrings) {
+                writeUInt32(stringDictionaryField.getTag());
+                writeString(dictionaryString);
+            }
+        }
+    }
+
+    // Writes the elements of a top level array or table in parallel if the value is large enough and its elements are
+    // written as separate occurrences of a repeated field. Packed fields, columnar tables and string references can
+    // not be split into chunks, so they are always written by the calling thread, as are the values of which the
+    // chunks are rejected by the pool.
+    private boolean writeElementChunks(SerializationPlan valuePlan, int typeTag, Object value) throws IOException {
+        if (encodedChunks != null) {
+            for (byte[] encodedChunk : encodedChunks) {
+                output.writeRawBytes(encodedChunk);
+            }
+            return true;
+        }
+        if (output != null || valuePlan.getStringDictionaryField() != null) {
+            return false;
+        }
+
+        FieldPlan elementField;
+        int elementTypeTag;
+        int elementCount;
+        IntFunction<Object> elements;
+        if (typeTag == TypeTags.ARRAY_TAG) {
+            BArray array = (BArray) value;
+            elementField = valuePlan.getArrayField();
+            elementTypeTag = TypeUtils.getReferredType(array.getElementType()).getTag();
+            elementCount = array.size();
+            elements = array::get;
+            if (elementField == null || !elementField.isRepeated() || !isWrittenAsOccurrences(elementTypeTag)
+                    || (elementTypeTag == TypeTags.STRING_TAG
+                    && elementField.getFieldType() != FieldDescriptor.Type.STRING)) {
+                return false;
+            }
+        } else {
+            BTable<?, ?> table = (BTable<?, ?>) value;
+            Type constrainedType = ((TableType) TypeUtils.getReferredType(table.getType())).getConstrainedType();
+            elementField = valuePlan.getTableEntryField();
+            elementTypeTag = TypeUtils.getReferredType(constrainedType).getTag();
+            elementCount = table.size();
+            if (elementField == null
+                    || (elementTypeTag != TypeTags.RECORD_TYPE_TAG && elementTypeTag != TypeTags.MAP_TAG)) {
+                return false;
+            }
+            Object[] rows = table.values().toArray();
+            elements = index -> rows[index];
+        }
+        Parallelism parallelism = Parallelism.getParallelism(elementCount);
+        if (parallelism == null) {
+            return false;
+        }
+
+        int chunkCount = parallelism.getChunkCount(elementCount);
+        List<Callable<byte[]>> chunkTasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = (int) ((long) elementCount * chunk / chunkCount);
+            int to = (int) ((long) elementCount * (chunk + 1) / chunkCount);
+            chunkTasks.add(() -> encodeElements(elementField, elementTypeTag, elements, from, to));
+        }
+        encodedChunks = parallelism.invokeAll(chunkTasks);
+        if (encodedChunks == null) {
+            return false;
+        }
+        for (byte[] encodedChunk : encodedChunks) {
+            size += encodedChunk.length;
+        }
+        return true;
+    }
+
+    private static boolean isWrittenAsOccurrences(int elementTypeTag) {
+        switch (elementTypeTag) {
+            case TypeTags.STRING_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.TUPLE_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // Encodes a chunk of elements with a writer of the pool thread, in the same two passes as a whole value
+    private static byte[] encodeElements(FieldPlan elementField, int elementTypeTag, IntFunction<Object> elements,
+                                         int from, int to) throws IOException {
+        ValueWriter chunkWriter = new ValueWriter();
+        try {
+            chunkWriter.writeElements(elementField, elementTypeTag, elements, from, to);
+            byte[] encodedChunk = new byte[chunkWriter.size];
+            chunkWriter.output = CodedOutputStream.newInstance(encodedChunk);
+            chunkWriter.writeElements(elementField, elementTypeTag, elements, from, to);
+            chunkWriter.output.checkNoSpaceLeft();
+            return encodedChunk;
+        } finally {
+            chunkWriter.release();
+        }
+    }
+
+    private void writeElements(FieldPlan elementField, int elementTypeTag, IntFunction<Object> elements, int from,
+                               int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            if (elementTypeTag == TypeTags.STRING_TAG) {
+                writeUInt32(elementField.getTag());
+                writeString(((BString) elements.apply(i)).getValue());
+            } else {
+                writeMessageField(elementField, elementTypeTag, elements.apply(i));
+            }
+        }
+    }
+
+    private void writeMessageFields(SerializationPlan messagePlan, int typeTag, Object value) throws IOException {
+        switch (typeTag) {
+            case TypeTags.DECIMAL_TAG:
+                writeDecimalFields(messagePlan, (BDecimal) value);
+                break;
+            case TypeTags.ARRAY_TAG:
+                writeArrayField(messagePlan.getArrayField(), (BArray) value);
+                break;
+            case TypeTags.UNION_TAG:
+                writeUnionFields(messagePlan, value);
+                break;
+            case TypeTags.RECORD_TYPE_TAG:
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> record = (BMap<BString, Object>) value;
+                writeRecordFields(messagePlan, record);
+                break;
+            case TypeTags.MAP_TAG:
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> map = (BMap<BString, Object>) value;
+                writeMapFields(messagePlan, map);
+                break;
+            case TypeTags.TABLE_TAG:
+                writeTableFields(messagePlan, (BTable<?, ?>) value);
+                break;
+            case TypeTags.TUPLE_TAG:
+                writeTupleFields(messagePlan, (BArray) value);
+                break;
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + typeTag, SERDES_ERROR);
+        }
+    }
+
+    // Writes a value of a singular message field, array values are written as the elements of a repeated field
+    private void writeFieldValue(FieldPlan field, Type ballerinaType, Object value) throws IOException {
+        requireField(field);
+        switch (ballerinaType.getTag()) {
+            case TypeTags.NULL_TAG:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + NIL, SERDES_ERROR);
+
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                writeSingularScalar(field, value);
+                break;
+
+            case TypeTags.BYTE_TAG:
+                requireFieldType(field, FieldDescriptor.Type.BYTES);
+                writeUInt32(field.getTag());
+                writeBytes(new byte[]{((Integer) value).byteValue()}, 1);
+                break;
+
+            case TypeTags.ARRAY_TAG:
+                writeArrayField(field, (BArray) value);
+                break;
+
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.TUPLE_TAG:
+                writeMessageField(field, ballerinaType.getTag(), value);
+                break;
+
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + ballerinaType.getName(), SERDES_ERROR);
+        }
+    }
+
+    private void writeMessageField(FieldPlan field, int typeTag, Object value) throws IOException {
+        requireFieldType(field, FieldDescriptor.Type.MESSAGE);
+        int lengthSlot = beginLengthDelimited(field.getTag());
+        writeMessageFields(field.getMessagePlan(), typeTag, value);
+        endLengthDelimited(lengthSlot);
+    }
+
+    private void writeDecimalFields(SerializationPlan decimalPlan, BDecimal decimal) throws IOException {
+        BigDecimal bigDecimal = decimal.decimalValue();
+        if (decimalPlan.getUnscaledValueField() != null) {
+            writeCompactDecimalFields(decimalPlan, bigDecimal);
+            return;
+        }
+        if (bigDecimal.scale() != 0) {
+            writeUInt32(decimalPlan.getScaleField().getTag());
+            writeUInt32(bigDecimal.scale());
+        }
+        writeUInt32(decimalPlan.getPrecisionField().getTag());
+        writeUInt32(bigDecimal.precision());
+        writeUInt32(decimalPlan.getValueField().getTag());
+        byte[] unscaledValue = bigDecimal.unscaledValue().toByteArray();
+        writeBytes(unscaledValue, unscaledValue.length);
+    }
+
+    // Unscaled values fitting in 64 bits are written as sint64 values, larger values as two's complement bytes
+    private void writeCompactDecimalFields(SerializationPlan decimalPlan, BigDecimal bigDecimal) throws IOException {
+        if (bigDecimal.scale() != 0) {
+            writeUInt32(decimalPlan.getScaleField().getTag());
+            writeSInt32(bigDecimal.scale());
+        }
+        long unscaledValue;
+        if (bigDecimal.precision() <= MAX_LONG_DECIMAL_PRECISION) {
+            // Moving the point by the scale gives the unscaled value without inflating it to a BigInteger
+            unscaledValue = bigDecimal.movePointRight(bigDecimal.scale()).longValue();
+        } else {
+            BigInteger unscaledBigInteger = bigDecimal.unscaledValue();
+            if (unscaledBigInteger.bitLength() >= Long.SIZE) {
+                writeUInt32(decimalPlan.getValueField().getTag());
+                byte[] unscaledBytes = unscaledBigInteger.toByteArray();
+                writeBytes(unscaledBytes, unscaledBytes.length);
+                return;
+            }
+            unscaledValue = unscaledBigInteger.longValue();
+        }
+        if (unscaledValue != 0) {
+            writeUInt32(decimalPlan.getUnscaledValueField().getTag());
+            writeSInt64(unscaledValue);
+        }
+    }
+
+    private void writeRecordFields(SerializationPlan recordPlan, BMap<BString, Object> record) throws IOException {
+        FieldPlan[] fields = recordPlan.getFields();
+        Type[] fieldTypes = recordPlan.getRecordFieldTypes((RecordType) TypeUtils.getReferredType(record.getType()));
+        int writtenFieldCount = 0;
+
+        // Record fields are numbered in the order of their names, iterate over the plan to keep that order
+        for (int i = 0; i < fields.length; i++) {
+            FieldPlan field = fields[i];
+            if (!record.containsKey(field.getName())) {
+                continue;
+            }
+            if (fieldTypes[i] == null) {
+                throw new IllegalArgumentException(field.getFieldDescriptor().getName());
+            }
+            writeFieldValue(field, fieldTypes[i], record.get(field.getName()));
+            writtenFieldCount++;
+        }
+
+        if (writtenFieldCount != record.size()) {
+            // Record value has fields which are not in the schema
+            throw new IllegalArgumentException(recordPlan.getMessageDescriptor().getName());
+        }
+    }
+
+    private void writeMapFields(SerializationPlan mapPlan, BMap<BString, Object> map) throws IOException {
+        MapType mapType = (MapType) TypeUtils.getReferredType(map.getType());
+        Type constrainedType = TypeUtils.getReferredType(mapType.getConstrainedType());
+        FieldPlan mapField = mapPlan.getMapField();
+        SerializationPlan mapEntryPlan = mapField.getMessagePlan();
+        FieldPlan keyField = mapEntryPlan.getKeyField();
+        FieldPlan valueField = mapEntryPlan.getValueField();
+
+        for (Map.Entry<BString, Object> entry : map.entrySet()) {
+            int lengthSlot = beginLengthDelimited(mapField.getTag());
+            writeSingularScalar(keyField, entry.getKey());
+            writeFieldValue(valueField, constrainedType, entry.getValue());
+            endLengthDelimited(lengthSlot);
+        }
+    }
+
+    private void writeTableFields(SerializationPlan tablePlan, BTable<?, ?> table) throws IOException {
+        Type constrainedType = ((TableType) TypeUtils.getReferredType(table.getType())).getConstrainedType();
+        Type referredConstrainedType = TypeUtils.getReferredType(constrainedType);
+        int constrainedTypeTag = referredConstrainedType.getTag();
+        if (constrainedTypeTag != TypeTags.RECORD_TYPE_TAG && constrainedTypeTag != TypeTags.MAP_TAG) {
+            throw createSerdesError(UNSUPPORTED_DATA_TYPE + referredConstrainedType.getName(), SERDES_ERROR);
+        }
+
+        FieldPlan tableEntryField = tablePlan.getTableEntryField();
+        if (tableEntryField == null && constrainedTypeTag == TypeTags.RECORD_TYPE_TAG) {
+            writeTableColumns(tablePlan, (RecordType) referredConstrainedType, table.values());
+            return;
+        }
+        for (Object tableEntry : table.values()) {
+            writeMessageField(tableEntryField, constrainedTypeTag, tableEntry);
+        }
+    }
+
+    // Columnar tables have a field for each record field, written in the same way as a record field of an array type
+    private void writeTableColumns(SerializationPlan tablePlan, RecordType rowType, Collection<?> rows)
+            throws IOException {
+        FieldPlan[] columns = tablePlan.getFields();
+        Type[] columnTypes = tablePlan.getRecordFieldTypes(rowType);
+        for (Object row : rows) {
+            if (((BMap<?, ?>) row).size() != columns.length) {
+                // Row has fields which are not in the schema
+                throw new IllegalArgumentException(tablePlan.getMessageDescriptor().getName());
+            }
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (columnTypes[i] == null) {
+                throw new IllegalArgumentException(columns[i].getFieldDescriptor().getName());
+            }
+            if (!rows.isEmpty()) {
+                writeTableColumn(columns[i], columnTypes[i], rows);
+            }
+        }
+    }
+
+    private void writeTableColumn(FieldPlan column, Type columnType, Collection<?> rows) throws IOException {
+        BString key = column.getName();
+        switch (columnType.getTag()) {
+            case TypeTags.BYTE_TAG:
+                requireFieldType(column, FieldDescriptor.Type.BYTES);
+                byte[] bytes = new byte[rows.size()];
+                int index = 0;
+                for (Object row : rows) {
+                    bytes[index++] = ((Integer) getColumnValue(row, key)).byteValue();
+                }
+                writeUInt32(column.getTag());
+                writeBytes(bytes, bytes.length);
+                break;
+
+            case TypeTags.INT_TAG:
+                requireFieldType(column, FieldDescriptor.Type.SINT64);
+                writeRepeatedScalars(column, rows, key);
+                break;
+
+            case TypeTags.FLOAT_TAG:
+                requireFieldType(column, FieldDescriptor.Type.DOUBLE);
+                writeRepeatedScalars(column, rows, key);
+                break;
+
+            case TypeTags.BOOLEAN_TAG:
+                requireFieldType(column, FieldDescriptor.Type.BOOL);
+                writeRepeatedScalars(column, rows, key);
+                break;
+
+            case TypeTags.STRING_TAG:
+                if (column.getFieldType() == FieldDescriptor.Type.UINT32) {
+                    writeRepeatedScalars(column, rows, key);
+                    break;
+                }
+                requireFieldType(column, FieldDescriptor.Type.STRING);
+                for (Object row : rows) {
+                    writeUInt32(column.getTag());
+                    writeString(toJavaString(getColumnValue(row, key)));
+                }
+                break;
+
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.TUPLE_TAG:
+                for (Object row : rows) {
+                    writeMessageField(column, columnType.getTag(), getColumnValue(row, key));
+                }
+                break;
+
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + columnType.getName(), SERDES_ERROR);
+        }
+    }
+
+    // Packed columns are written as a single length delimited field, the length is computed by the first pass
+    private void writeRepeatedScalars(FieldPlan column, Collection<?> rows, BString key) throws IOException {
+        if (column.isPacked()) {
+            int lengthSlot = beginLengthDelimited(column.getPackedTag());
+            for (Object row : rows) {
+                writeScalarNoTag(column, getColumnValue(row, key));
+            }
+            endLengthDelimited(lengthSlot);
+            return;
+        }
+        for (Object row : rows) {
+            writeUInt32(column.getTag());
+            writeScalarNoTag(column, getColumnValue(row, key));
+        }
+    }
+
+    private static Object getColumnValue(Object row, BString key) {
+        return ((BMap<?, ?>) row).get(key);
+    }
+
+    private void writeTupleFields(SerializationPlan tuplePlan, BArray tuple) throws IOException {
+        List<Type> elementTypes = ((TupleType) TypeUtils.getReferredType(tuple.getType())).getTupleTypes();
+        for (int i = 0; i < tuple.size(); i++) {
+            // Tuple elements are numbered from one in the order of the tuple members
+            FieldPlan elementField = tuplePlan.getField(i + 1);
+            Type elementType = TypeUtils.getReferredType(elementTypes.get(i));
+            writeFieldValue(elementField, elementType, tuple.get(i));
+        }
+    }
+
+    private void writeUnionFields(SerializationPlan unionPlan, Object unionValue) throws IOException {
+        UnionMember member = unionPlan.getUnionMember(TypeUtils.getType(unionValue));
+        FieldPlan field = member.getField();
+        Type referredType = member.getReferredType();
+
+        if (referredType.getTag() == TypeTags.NULL_TAG) {
+            requireFieldType(field, FieldDescriptor.Type.BOOL);
+            writeUInt32(field.getTag());
+            writeBool(true);
+        } else {
+            writeFieldValue(field, referredType, unionValue);
+        }
+    }
+
+    private void writeArrayField(FieldPlan field, BArray array) throws IOException {
+        requireField(field);
+        Type elementType = TypeUtils.getReferredType(array.getElementType());
+        int arraySize = array.size();
+
+        if (elementType.getTag() == TypeTags.BYTE_TAG) {
+            // Byte arrays are written as a single bytes field instead of a repeated field
+            requireFieldType(field, FieldDescriptor.Type.BYTES);
+            if (arraySize > 0) {
+                writeUInt32(field.getTag());
+                writeBytes(array.getByteArray(), arraySize);
+            }
+            return;
+        }
+
+        if (!field.isRepeated()) {
+            throw new IllegalArgumentException(field.getFieldDescriptor().getFullName());
+        }
+
+        switch (elementType.getTag()) {
+            case TypeTags.INT_TAG:
+                writeIntArray(field, array);
+                break;
+
+            case TypeTags.FLOAT_TAG:
+                writeFloatArray(field, array);
+                break;
+
+            case TypeTags.BOOLEAN_TAG:
+                writeBooleanArray(field, array);
+                break;
+
+            case TypeTags.STRING_TAG:
+                if (field.getFieldType() == FieldDescriptor.Type.UINT32) {
+                    writeStringReferenceArray(field, array);
+                    break;
+                }
+                requireFieldType(field, FieldDescriptor.Type.STRING);
+                for (int i = 0; i < arraySize; i++) {
+                    writeUInt32(field.getTag());
+                    writeString(((BString) array.get(i)).getValue());
+                }
+                break;
+
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.TUPLE_TAG:
+                for (int i = 0; i < arraySize; i++) {
+                    writeMessageField(field, elementType.getTag(), array.get(i));
+                }
+                break;
+
+            default:
+                throw createSerdesError(UNSUPPORTED_DATA_TYPE + elementType.getName(), SERDES_ERROR);
+        }
+    }
+
+    // Primitive arrays are written from the backing arrays of the ballerina arrays without boxing the elements.
+    // Backing arrays can be larger than the ballerina arrays, so only the first size elements are written.
+
+    private void writeIntArray(FieldPlan field, BArray array) throws IOException {
+        requireFieldType(field, FieldDescriptor.Type.SINT64);
+        int arraySize = array.size();
+        if (arraySize == 0) {
+            return;
+        }
+        long[] values = array.getIntArray();
+        if (field.isPacked()) {
+            // Length of the packed varints is computed by the first pass
+            int lengthSlot = beginLengthDelimited(field.getPackedTag());
+            for (int i = 0; i < arraySize; i++) {
+                writeSInt64(values[i]);
+            }
+            endLengthDelimited(lengthSlot);
+            return;
+        }
+        for (int i = 0; i < arraySize; i++) {
+            writeUInt32(field.getTag());
+            writeSInt64(values[i]);
+        }
+    }
+
+    private void writeFloatArray(FieldPlan field, BArray array) throws IOException {
+        requireFieldType(field, FieldDescriptor.Type.DOUBLE);
+        int arraySize = array.size();
+        if (arraySize == 0) {
+            return;
+        }
+        double[] values = array.getFloatArray();
+        if (field.isPacked()) {
+            writeUInt32(field.getPackedTag());
+            writeUInt32(arraySize * FIXED64_SIZE);
+        }
+        for (int i = 0; i < arraySize; i++) {
+            if (!field.isPacked()) {
+                writeUInt32(field.getTag());
+            }
+            writeDouble(values[i]);
+        }
+    }
+
+    private void writeBooleanArray(FieldPlan field, BArray array) throws IOException {
+        requireFieldType(field, FieldDescriptor.Type.BOOL);
+        int arraySize = array.size();
+        if (arraySize == 0) {
+            return;
+        }
+        boolean[] values = array.getBooleanArray();
+        if (field.isPacked()) {
+            writeUInt32(field.getPackedTag());
+            writeUInt32(arraySize);
+        }
+        for (int i = 0; i < arraySize; i++) {
+            if (!field.isPacked()) {
+                writeUInt32(field.getTag());
+            }
+            writeBool(values[i]);
+        }
+    }
+
+    private void writeStringReferenceArray(FieldPlan field, BArray array) throws IOException {
+        int arraySize = array.size();
+        if (arraySize == 0) {
+            return;
+        }
+        if (field.isPacked()) {
+            int lengthSlot = beginLengthDelimited(field.getPackedTag());
+            for (int i = 0; i < arraySize; i++) {
+                writeUInt32(getStringReference(((BString) array.get(i)).getValue()));
+            }
+            endLengthDelimited(lengthSlot);
+            return;
+        }
+        for (int i = 0; i < arraySize; i++) {
+            writeUInt32(field.getTag());
+            writeUInt32(getStringReference(((BString) array.get(i)).getValue()));
+        }
+    }
+
+    // References are assigned in the first pass, the second pass finds the same references
+    private int getStringReference(String value) {
+        if (value.isEmpty()) {
+            return 0;
+        }
+        if (stringReferences == null) {
+            stringReferences = new HashMap<>();
+            dictionaryStrings = new ArrayList<>();
+        }
+        Integer reference = stringReferences.get(value);
+        if (reference == null) {
+            dictionaryStrings.add(value);
+            reference = dictionaryStrings.size();
+            stringReferences.put(value, reference);
+        }
+        return reference;
+    }
+
+    // Nested messages and packed fields are prefixed with their lengths. In the first pass the slot of the length holds
+    // the size written before the length delimited content until the length is known at the end of the content.
+    private int beginLengthDelimited(int tag) throws IOException {
+        writeUInt32(tag);
+        if (output != null) {
+            output.writeUInt32NoTag(lengths[lengthIndex++]);
+            return lengthIndex - 1;
+        }
+        if (lengthCount == lengths.length) {
+            lengths = Arrays.copyOf(lengths, lengthCount * 2);
+        }
+        lengths[lengthCount] = size;
+        return lengthCount++;
+    }
+
+    private void endLengthDelimited(int lengthSlot) {
+        if (output == null) {
+            int length = size - lengths[lengthSlot];
+            lengths[lengthSlot] = length;
+            size += CodedOutputStream.computeUInt32SizeNoTag(length);
+        }
+    }
+
+    private void writeUInt32(int value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeUInt32SizeNoTag(value);
+        } else {
+            output.writeUInt32NoTag(value);
+        }
+    }
+
+    private void writeSInt32(int value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeSInt32SizeNoTag(value);
+        } else {
+            output.writeSInt32NoTag(value);
+        }
+    }
+
+    private void writeSInt64(long value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeSInt64SizeNoTag(value);
+        } else {
+            output.writeSInt64NoTag(value);
+        }
+    }
+
+    private void writeDouble(double value) throws IOException {
+        if (output == null) {
+            size += FIXED64_SIZE;
+        } else {
+            output.writeDoubleNoTag(value);
+        }
+    }
+
+    private void writeBool(boolean value) throws IOException {
+        if (output == null) {
+            size += 1;
+        } else {
+            output.writeBoolNoTag(value);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeStringSizeNoTag(value);
+        } else {
+            output.writeStringNoTag(value);
+        }
+    }
+
+    // Writes the first length bytes of the array, backing arrays of ballerina arrays can be larger than the values
+    private void writeBytes(byte[] value, int length) throws IOException {
+        if (output == null) {
+            size += CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+        } else {
+            output.writeUInt32NoTag(length);
+            output.writeRawBytes(value, 0, length);
+        }
+    }
+
+    // Proto3 singular fields with default values are not written to the output
+    private void writeSingularScalar(FieldPlan field, Object value) throws IOException {
+        requireField(field);
+        if (isDefaultScalarValue(field, value)) {
+            return;
+        }
+        writeUInt32(field.getTag());
+        writeScalarNoTag(field, value);
+    }
+
+    private static boolean isDefaultScalarValue(FieldPlan field, Object value) {
+        switch (field.getFieldType()) {
+            case SINT64:
+                return toLong(value) == 0;
+            case DOUBLE:
+                return Double.doubleToLongBits(toDouble(value)) == 0;
+            case BOOL:
+                return !toBoolean(value);
+            case STRING:
+            case UINT32:
+                // Empty strings are referred to by zero in schemas with string dictionaries
+                return toJavaString(value).isEmpty();
+            case ENUM:
+                // Enum values of strings are numbered from one, so every value is written
+                return false;
+            default:
+                throw new IllegalArgumentException(field.getFieldDescriptor().getFullName());
+        }
+    }
+
+    private void writeScalarNoTag(FieldPlan field, Object value) throws IOException {
+        switch (field.getFieldType()) {
+            case SINT64:
+                writeSInt64(toLong(value));
+                break;
+            case DOUBLE:
+                writeDouble(toDouble(value));
+                break;
+            case BOOL:
+                writeBool(toBoolean(value));
+                break;
+            case STRING:
+                writeString(toJavaString(value));
+                break;
+            case ENUM:
+                writeUInt32(field.getEnumNumber(toJavaString(value)));
+                break;
+            case UINT32:
+                writeUInt32(getStringReference(toJavaString(value)));
+                break;
+            default:
+                throw new IllegalArgumentException(field.getFieldDescriptor().getFullName());
+        }
+    }
+
+    // Type checks of the values mirrors the checks done by the protobuf message builders
+    private static long toLong(Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        throw new IllegalArgumentException(String.valueOf(value));
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        throw new IllegalArgumentException(String.valueOf(value));
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw new IllegalArgumentException(String.valueOf(value));
+    }
+
+    private static String toJavaString(Object value) {
+        if (value instanceof BString) {
+            return ((BString) value).getValue();
+        }
+        throw new IllegalArgumentException(String.valueOf(value));
+    }
+
+    private static void requireField(FieldPlan field) {
+        if (field == null) {
+            // Value has a field or a member which is not defined in the schema
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private static void requireFieldType(FieldPlan field, FieldDescriptor.Type fieldType) {
+        requireField(field);
+        if (field.getFieldType() != fieldType) {
+            throw new IllegalArgumentException(field.getFieldDescriptor().getFullName());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.serdes.protobuf;
+
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+
+import static io.ballerina.stdlib.serdes.Constants.SPACE;
+
+/**
+ * Dynamically creates a Protocol Buffer enum type.
+ */
+public class ProtobufEnumBuilder {
+
+    private final EnumDescriptorProto.Builder enumDescriptorProtoBuilder;
+    private final String enumName;
+
+    public ProtobufEnumBuilder(String enumName) {
+        this.enumName = enumName;
+        enumDescriptorProtoBuilder = EnumDescriptorProto.newBuilder();
+        enumDescriptorProtoBuilder.setName(enumName);
+    }
+
+    public String getName() {
+        return enumName;
+    }
+
+    public EnumDescriptorProto.Builder getProtobufEnum() {
+        return enumDescriptorProtoBuilder;
+    }
+
+    // Values are expected in the order of their numbers, proto3 enums start with the value numbered 0
+    public void addValue(String valueName, int number) {
+        enumDescriptorProtoBuilder.addValue(EnumValueDescriptorProto.newBuilder().setName(valueName).setNumber(number));
+    }
+
+    public String toString(String space) {
+        String levelSpace = space + "  ";
+        StringBuilder enumContent = new StringBuilder();
+        enumDescriptorProtoBuilder.getValueList().forEach(value -> enumContent.append(levelSpace).append(SPACE)
+                .append(value.getName()).append(" = ").append(value.getNumber()).append(";\n"));
+        return space + "enum " + enumName + " {\n" + enumContent + space + "}\n";
+    }
+}
@@ -18,21 +18,35 @@
 
 package io.ballerina.stdlib.serdes.protobuf;
 
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
 import static com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import static com.google.protobuf.Descriptors.Descriptor;
 import static com.google.protobuf.Descriptors.DescriptorValidationException;
 import static com.google.protobuf.Descriptors.FileDescriptor;
+import static io.ballerina.stdlib.serdes.Constants.EMPTY_STRING;
 import static io.ballerina.stdlib.serdes.Constants.PROTO3;
+import static io.ballerina.stdlib.serdes.Constants.REPEATED_LABEL;
+import static io.ballerina.stdlib.serdes.Constants.SPACE;
 import static io.ballerina.stdlib.serdes.Constants.SYNTAX;
 
 /**
  * Dynamically create and build a proto file.
  */
 public class ProtobufFileBuilder {
+    private static final String FIELD_TYPE_PREFIX = "TYPE_";
 
     private final FileDescriptorProto.Builder fileDescProtoBuilder;
-    // This protobufFileDescriptor only contains a single message
+    // This protobufFileDescriptor only contains a single message apart from the messages shared by its fields
     private ProtobufMessageBuilder protobufMessage;
+    private final List<ProtobufMessageBuilder> sharedMessages = new ArrayList<>();
 
     public ProtobufFileBuilder() {
         fileDescProtoBuilder = FileDescriptorProto.newBuilder();
@@ -46,6 +60,13 @@ public class ProtobufFileBuilder {
         return this;
     }
 
+    // Shared messages are defined after the dynamic message schema, which stays the first message of the file
+    public ProtobufFileBuilder addSharedMessageType(ProtobufMessageBuilder protobufMessageBuilder) {
+        fileDescProtoBuilder.addMessageType(protobufMessageBuilder.getProtobufMessage());
+        sharedMessages.add(protobufMessageBuilder);
+        return this;
+    }
+
     public Descriptor build() throws DescriptorValidationException {
         FileDescriptor[] fileDescriptors = new FileDescriptor[]{};
         return FileDescriptor.buildFrom(fileDescProtoBuilder.build(), fileDescriptors).getMessageTypes().get(0);
@@ -53,6 +74,60 @@ public class ProtobufFileBuilder {
 
     @Override
     public String toString() {
-        return SYNTAX + " = \"" + fileDescProtoBuilder.getSyntax() + "\";" + "\n\n" + protobufMessage;
+        StringBuilder protoContent = new StringBuilder(SYNTAX + " = \"" + fileDescProtoBuilder.getSyntax() + "\";"
+                + "\n\n" + protobufMessage);
+        sharedMessages.forEach(sharedMessage -> protoContent.append("\n").append(sharedMessage));
+        return protoContent.toString();
+    }
+
+    /**
+     * Creates the proto3 definition of a message which is not built by a {@link ProtobufMessageBuilder}, such as a
+     * message loaded from a descriptor set. Definitions are written in the same layout as the built messages and
+     * the other top level messages of the file, such as a shared DecimalValue message, follow the message.
+     *
+     * @param messageDescriptor Descriptor of the message.
+     * @return Proto3 definition of the message.
+     */
+    public static String toProto3(Descriptor messageDescriptor) {
+        StringBuilder protoContent = new StringBuilder(SYNTAX + " = \"" + PROTO3 + "\";" + "\n\n"
+                + toString(messageDescriptor.toProto(), ""));
+        messageDescriptor.getFile().getMessageTypes().stream()
+                .filter(fileMessage -> fileMessage != messageDescriptor)
+                .forEach(fileMessage -> protoContent.append("\n").append(toString(fileMessage.toProto(), "")));
+        return protoContent.toString();
+    }
+
+    private static String toString(DescriptorProto message, String space) {
+        String levelSpace = space + "  ";
+        StringBuilder msgContent = new StringBuilder();
+        message.getEnumTypeList()
+                .forEach(nestedEnum -> msgContent.append(toString(nestedEnum, levelSpace)).append("\n"));
+        message.getNestedTypeList()
+                .forEach(nestedMessage -> msgContent.append(toString(nestedMessage, levelSpace)).append("\n"));
+        message.getFieldList().stream().sorted(Comparator.comparingInt(FieldDescriptorProto::getNumber))
+                .forEach(field -> msgContent.append(levelSpace).append(SPACE).append(getFieldLabel(field))
+                        .append(getFieldType(field)).append(SPACE).append(field.getName()).append(SPACE)
+                        .append(" = ").append(field.getNumber()).append(";\n"));
+        return space + "message " + message.getName() + " {\n" + msgContent + space + "}\n";
+    }
+
+    private static String toString(EnumDescriptorProto enumType, String space) {
+        String levelSpace = space + "  ";
+        StringBuilder enumContent = new StringBuilder();
+        enumType.getValueList().forEach(value -> enumContent.append(levelSpace).append(SPACE).append(value.getName())
+                .append(" = ").append(value.getNumber()).append(";\n"));
+        return space + "enum " + enumType.getName() + " {\n" + enumContent + space + "}\n";
+    }
+
+    private static String getFieldLabel(FieldDescriptorProto field) {
+        return field.getLabel() == FieldDescriptorProto.Label.LABEL_REPEATED ? REPEATED_LABEL + SPACE : EMPTY_STRING;
+    }
+
+    private static String getFieldType(FieldDescriptorProto field) {
+        if (field.hasTypeName()) {
+            // Fully qualified type names keep the leading dot, as it is valid in proto3 definitions as well
+            return field.getTypeName();
+        }
+        return field.getType().name().substring(FIELD_TYPE_PREFIX.length()).toLowerCase(Locale.ENGLISH);
     }
 }
@@ -32,6 +32,7 @@ public class ProtobufMessageBuilder {
 
     private final Builder messageDescriptorProtoBuilder;
     private final HashMap<String, ProtobufMessageBuilder> nestedMessages = new HashMap<>();
+    private final HashMap<String, ProtobufEnumBuilder> nestedEnums = new HashMap<>();
     private final HashMap<String, ProtobufMessageFieldBuilder> messageFields = new HashMap<>();
     private final String messageName;
     private final ProtobufMessageBuilder parentMessage;
@@ -72,6 +73,14 @@ public class ProtobufMessageBuilder {
         }
     }
 
+    public void addNestedEnum(ProtobufEnumBuilder nestedEnum) {
+        boolean isDefined = nestedEnums.get(nestedEnum.getName()) != null;
+        if (!isDefined) {
+            messageDescriptorProtoBuilder.addEnumType(nestedEnum.getProtobufEnum());
+            nestedEnums.put(nestedEnum.getName(), nestedEnum);
+        }
+    }
+
     public boolean hasMessageDefinitionInMessageTree(String targetMsgName) {
         if (messageName.equals(targetMsgName)) {
             return true;
@@ -91,6 +100,8 @@ public class ProtobufMessageBuilder {
         StringBuilder msgContent = new StringBuilder();
 
         // Build string for nested types
+        nestedEnums.values()
+                .forEach(nestedEnum -> msgContent.append(nestedEnum.toString(levelSpace)).append("\n"));
         nestedMessages.values()
                 .forEach(nestedMessage -> msgContent.append(nestedMessage.toString(levelSpace)).append("\n"));
 
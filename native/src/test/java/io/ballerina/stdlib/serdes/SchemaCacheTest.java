@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.serdes;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests of the {@link SchemaCache} class.
+ */
+public class SchemaCacheTest {
+    private static final int MAX_CACHED_SCHEMAS = 1024;
+
+    @BeforeMethod
+    public void clearCache() {
+        SchemaCache.clear();
+    }
+
+    @Test
+    public void testCachedSchemaIsHit() throws Exception {
+        Type arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Assert.assertNull(SchemaCache.get(arrayType, SchemaOptions.DEFAULT));
+        GeneratedSchema schema = SchemaGenerator.createSchema(arrayType);
+        SchemaCache.put(arrayType, SchemaOptions.DEFAULT, schema);
+
+        Assert.assertSame(SchemaCache.get(arrayType, SchemaOptions.DEFAULT), schema);
+        Assert.assertEquals(SchemaCache.getHitCount(), 1);
+        Assert.assertEquals(SchemaCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testSchemaOptionsAreCachedSeparately() throws Exception {
+        Type arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_DECIMAL);
+        SchemaCache.put(arrayType, SchemaOptions.DEFAULT, SchemaGenerator.createSchema(arrayType));
+
+        SchemaOptions compactDecimals = new SchemaOptions(true, false, false);
+        Assert.assertNull(SchemaCache.get(arrayType, compactDecimals));
+        Assert.assertEquals(SchemaCache.getHitCount(), 0);
+        Assert.assertEquals(SchemaCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testOldestSchemaIsEvicted() throws Exception {
+        GeneratedSchema schema = SchemaGenerator.createSchema(PredefinedTypes.TYPE_INT);
+        // Each created array type is a distinct cache key
+        List<Type> types = new ArrayList<>();
+        for (int i = 0; i <= MAX_CACHED_SCHEMAS; i++) {
+            Type arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+            types.add(arrayType);
+            SchemaCache.put(arrayType, SchemaOptions.DEFAULT, schema);
+        }
+
+        Assert.assertEquals(SchemaCache.size(), MAX_CACHED_SCHEMAS);
+        Assert.assertNull(SchemaCache.get(types.get(0), SchemaOptions.DEFAULT));
+        Assert.assertSame(SchemaCache.get(types.get(1), SchemaOptions.DEFAULT), schema);
+        Assert.assertSame(SchemaCache.get(types.get(MAX_CACHED_SCHEMAS), SchemaOptions.DEFAULT), schema);
+    }
+}